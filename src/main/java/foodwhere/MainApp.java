@@ -13,6 +13,7 @@ import foodwhere.commons.util.ConfigUtil;
 import foodwhere.commons.util.StringUtil;
 import foodwhere.logic.Logic;
 import foodwhere.logic.LogicManager;
+import foodwhere.logic.commands.exceptions.CommandException;
 import foodwhere.model.AddressBook;
 import foodwhere.model.Model;
 import foodwhere.model.ModelManager;
@@ -21,11 +22,12 @@ import foodwhere.model.ReadOnlyUserPrefs;
 import foodwhere.model.UserPrefs;
 import foodwhere.model.util.SampleDataUtil;
 import foodwhere.storage.AddressBookStorage;
-import foodwhere.storage.JsonAddressBookStorage;
+import foodwhere.storage.JournaledAddressBookStorage;
 import foodwhere.storage.JsonUserPrefsStorage;
 import foodwhere.storage.Storage;
 import foodwhere.storage.StorageManager;
 import foodwhere.storage.UserPrefsStorage;
+import foodwhere.ui.ImageRegistry;
 import foodwhere.ui.Ui;
 import foodwhere.ui.UiManager;
 import javafx.application.Application;
@@ -56,7 +58,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, config.isCompactDataFile());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
@@ -168,12 +171,20 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting FoodWhere " + MainApp.VERSION);
+        if (config.isPreloadImages()) {
+            ImageRegistry.preload();
+        }
         ui.start(primaryStage);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping FoodWhere ] =============================");
+        try {
+            logic.flush();
+        } catch (CommandException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -15,6 +15,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean compactDataFile = false;
+    private boolean preloadImages = true;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +34,28 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the data file is written without indentation and line breaks.
+     */
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
+    /**
+     * Returns true if the images displayed by the UI are decoded when the app starts, instead of on first use.
+     */
+    public boolean isPreloadImages() {
+        return preloadImages;
+    }
+
+    public void setPreloadImages(boolean preloadImages) {
+        this.preloadImages = preloadImages;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +68,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && compactDataFile == o.compactDataFile
+                && preloadImages == o.preloadImages;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, compactDataFile, preloadImages);
     }
 
     @Override
@@ -8,4 +8,12 @@ public class DataConversionException extends Exception {
         super(cause);
     }
 
+    /**
+     * @param message should describe where in the data the conversion failed
+     * @param cause of the main exception
+     */
+    public DataConversionException(String message, Exception cause) {
+        super(message, cause);
+    }
+
 }
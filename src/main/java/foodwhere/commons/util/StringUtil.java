@@ -38,6 +38,37 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns a case-folded copy of {@code s}.
+     * Two strings are equal according to {@link String#equalsIgnoreCase(String)} if and only if
+     * their case-folded copies are equal, so the result can be used as a hash key for case-insensitive lookups.
+     *
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        char[] folded = new char[s.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns {@code word} trimmed and case-folded by {@link #foldCase(String)}, so that it can be compared with
+     * the case-folded words of a sentence.
+     *
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static String foldWord(String word) {
+        requireNonNull(word);
+
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        return foldCase(preppedWord);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -58,11 +89,7 @@ public class StringUtil {
     public static boolean isNonZeroUnsignedInteger(String s) {
         requireNonNull(s);
 
-        try {
-            int value = Integer.parseInt(s);
-            return value > 0 && !s.startsWith("+"); // "+1" is successfully parsed by Integer#parseInt(String)
-        } catch (NumberFormatException nfe) {
-            return false;
-        }
+        // "+1" is successfully parsed by Integer#parseInt(String)
+        return !s.startsWith("+") && ValidationUtil.parseInt(s, 1, Integer.MAX_VALUE).isPresent();
     }
 }
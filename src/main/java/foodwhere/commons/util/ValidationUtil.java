@@ -0,0 +1,210 @@
+package foodwhere.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Scanners that validate and parse the strings of field values, such as names, tags, dates and ratings.
+ * Each scanner makes a single pass over its input without compiling regular expressions, creating intermediate
+ * objects or throwing exceptions on invalid input, so that values can be validated as cheaply from the command line
+ * as from the data file.
+ */
+public class ValidationUtil {
+
+    private static final int MAX_DAY_OR_MONTH_DIGITS = 2;
+    private static final int YEAR_DIGITS = 4;
+
+    /**
+     * Returns true if {@code s} is made of one or more ASCII letters and digits,
+     * i.e. if it matches {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String s) {
+        requireNonNull(s);
+        if (s.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!isAlphanumeric(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code s} is made of ASCII letters, digits and spaces, and starts with a letter or digit,
+     * i.e. if it matches {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String s) {
+        requireNonNull(s);
+        if (s.isEmpty() || !isAlphanumeric(s.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code s} is a single line that does not start with whitespace,
+     * i.e. if it matches {@code [^\s].*}.
+     */
+    public static boolean isNonBlankLine(String s) {
+        requireNonNull(s);
+        if (s.isEmpty() || isWhitespace(s.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < s.length(); i++) {
+            if (isLineTerminator(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the integer represented by {@code s} if it is between {@code min} and {@code max} inclusive.
+     * Accepts the same strings as {@link Integer#parseInt(String)}: an optional sign followed by one or more digits.
+     */
+    public static OptionalInt parseInt(String s, int min, int max) {
+        requireNonNull(s);
+        int length = s.length();
+        int i = 0;
+        boolean isNegative = false;
+        if (length > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+            isNegative = s.charAt(0) == '-';
+            i++;
+        }
+        if (i == length) {
+            return OptionalInt.empty();
+        }
+
+        // bounded by one past Integer.MAX_VALUE, so that it never overflows
+        long magnitude = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(s.charAt(i), 10);
+            if (digit < 0) {
+                return OptionalInt.empty();
+            }
+            magnitude = magnitude * 10 + digit;
+            if (magnitude > (long) Integer.MAX_VALUE + 1) {
+                return OptionalInt.empty();
+            }
+        }
+
+        long value = isNegative ? -magnitude : magnitude;
+        if (value < min || value > max) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of((int) value);
+    }
+
+    /**
+     * Returns true if {@code s} is written as D/M/YYYY or D-M-YYYY, where the day and month have one or two digits,
+     * i.e. if it matches {@code \d{1,2}-\d{1,2}-\d{4}|\d{1,2}/\d{1,2}/\d{4}}. The date need not exist.
+     */
+    public static boolean isDateFormat(String s) {
+        requireNonNull(s);
+        return scanDate(s) != null;
+    }
+
+    /**
+     * Returns the date represented by {@code s} if it is written as in {@link #isDateFormat(String)}
+     * and is an existing date from the year 1 onwards.
+     */
+    public static Optional<LocalDate> parseDate(String s) {
+        requireNonNull(s);
+        int[] fields = scanDate(s);
+        if (fields == null) {
+            return Optional.empty();
+        }
+        int day = fields[0];
+        int month = fields[1];
+        int year = fields[2];
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDate.of(year, month, day));
+    }
+
+    /**
+     * Returns the day, month and year written in {@code s}, or null if {@code s} is not in a date format.
+     */
+    private static int[] scanDate(String s) {
+        int[] fields = new int[3];
+        int i = 0;
+        char separator = 0;
+        for (int field = 0; field < fields.length; field++) {
+            boolean isYear = field == fields.length - 1;
+            int start = i;
+            int value = 0;
+            while (i < s.length() && isAsciiDigit(s.charAt(i))) {
+                value = value * 10 + (s.charAt(i) - '0');
+                i++;
+                if (i - start > YEAR_DIGITS) {
+                    return null;
+                }
+            }
+            int digits = i - start;
+            if (isYear ? digits != YEAR_DIGITS : digits < 1 || digits > MAX_DAY_OR_MONTH_DIGITS) {
+                return null;
+            }
+            fields[field] = value;
+
+            if (isYear) {
+                break;
+            }
+            if (i == s.length()) {
+                return null;
+            }
+            char c = s.charAt(i);
+            if (field == 0 && (c == '/' || c == '-')) {
+                separator = c;
+            } else if (c != separator) {
+                return null;
+            }
+            i++;
+        }
+        return i == s.length() ? fields : null;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return Year.isLeap(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c);
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /** Returns true if {@code c} is matched by {@code \s}. */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /** Returns true if {@code c} is not matched by {@code .}. */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
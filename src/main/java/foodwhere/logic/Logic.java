@@ -1,6 +1,7 @@
 package foodwhere.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import foodwhere.commons.core.GuiSettings;
 import foodwhere.logic.commands.CommandResult;
@@ -25,6 +26,20 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Waits until the changes made by all executed commands have been saved.
+     * Commands save the address book in the background, so this should be called before the app exits.
+     *
+     * @throws CommandException If the most recent save failed.
+     */
+    void flush() throws CommandException;
+
+    /**
+     * Sets the handler to be notified when a background save fails.
+     * The handler is called on the saving thread, not the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<CommandException> saveFailureHandler);
+
     /**
      * Returns the AddressBook in FoodWhere.
      *
@@ -1,7 +1,10 @@
 package foodwhere.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import foodwhere.commons.core.GuiSettings;
@@ -11,6 +14,7 @@ import foodwhere.logic.commands.CommandResult;
 import foodwhere.logic.commands.exceptions.CommandException;
 import foodwhere.logic.parser.AddressBookParser;
 import foodwhere.logic.parser.exceptions.ParseException;
+import foodwhere.model.AddressBookSnapshot;
 import foodwhere.model.Model;
 import foodwhere.model.ReadOnlyAddressBook;
 import foodwhere.model.review.Review;
@@ -26,16 +30,18 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final WriteBehindSaver saver;
+    private long savedVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
         addressBookParser = new AddressBookParser();
+        saver = new WriteBehindSaver(storage);
+        savedVersion = model.getModificationVersion();
     }
 
     @Override
@@ -46,13 +52,35 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        // a failed save is retried even if the command left the data unchanged
+        long version = model.getModificationVersion();
+        if (version != savedVersion || saver.hasFailed()) {
+            saver.save(new AddressBookSnapshot(model.getAddressBook()));
+            savedVersion = version;
+        }
+
+        return commandResult;
+    }
+
+    @Override
+    public void flush() throws CommandException {
+        if (saver.hasFailed()) {
+            // written by the flush below, so the latest data is saved rather than whatever failed last
+            saver.replacePendingSnapshot(new AddressBookSnapshot(model.getAddressBook()));
+            savedVersion = model.getModificationVersion();
+        }
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saver.flush();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void setSaveFailureHandler(Consumer<CommandException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        saver.setFailureHandler(ioe ->
+                saveFailureHandler.accept(new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe)));
     }
 
     @Override
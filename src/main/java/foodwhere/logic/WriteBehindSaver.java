@@ -0,0 +1,137 @@
+package foodwhere.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import foodwhere.commons.core.LogsCenter;
+import foodwhere.commons.util.StringUtil;
+import foodwhere.model.ReadOnlyAddressBook;
+import foodwhere.storage.Storage;
+
+/**
+ * Saves address book snapshots to {@code Storage} on a dedicated background thread.
+ * Snapshots submitted while an earlier one is still waiting to be written replace it,
+ * so a burst of commands results in a single write of the latest snapshot.
+ * A snapshot that fails to be written stays pending until it is written or replaced by a later snapshot,
+ * so the next {@link #save(ReadOnlyAddressBook)} or {@link #flush()} tries again.
+ */
+class WriteBehindSaver {
+    private static final String THREAD_NAME = "foodwhere-saver";
+
+    private final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Storage storage;
+    private final ExecutorService executor;
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private volatile IOException lastFailure;
+    private volatile Consumer<IOException> failureHandler = failure -> {};
+
+    /**
+     * Constructs a {@code WriteBehindSaver} that writes to {@code storage}.
+     */
+    WriteBehindSaver(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler called on the background thread whenever a deferred save fails.
+     */
+    void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be saved, replacing any snapshot that has not been written yet.
+     * The snapshot must not be modified afterwards.
+     */
+    void save(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        // a snapshot left pending by a failed save has no write scheduled for it
+        if (pendingSnapshot.getAndSet(snapshot) == null || hasFailed()) {
+            executor.execute(this::writeInBackground);
+        }
+    }
+
+    /**
+     * Replaces any snapshot that has not been written yet with {@code snapshot}, without scheduling a write.
+     * The snapshot is written by the next {@link #save(ReadOnlyAddressBook)} or {@link #flush()}.
+     * The snapshot must not be modified afterwards.
+     */
+    void replacePendingSnapshot(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        pendingSnapshot.set(snapshot);
+    }
+
+    /**
+     * Returns true if the most recent save failed, so the saved address book may be out of date.
+     */
+    boolean hasFailed() {
+        return lastFailure != null;
+    }
+
+    /**
+     * Blocks until every scheduled snapshot has been written, writing any snapshot left pending by a failed save.
+     *
+     * @throws IOException If the snapshot could not be written.
+     */
+    void flush() throws IOException {
+        IOException failure;
+        try {
+            failure = executor.submit(this::writePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = lastFailure;
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void writeInBackground() {
+        IOException failure = writePendingSnapshot();
+        if (failure != null) {
+            failureHandler.accept(failure);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any.
+     *
+     * @return The failure of the write, or null if it succeeded or there was nothing to write.
+     */
+    private IOException writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return null;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+            lastFailure = null;
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(ioe));
+            lastFailure = ioe;
+            // keep the snapshot for the next attempt, unless a later one has replaced it
+            pendingSnapshot.compareAndSet(null, snapshot);
+            return ioe;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,92 @@
+package foodwhere.logic.commands;
+
+import static foodwhere.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.logic.parser.CliSyntax;
+import foodwhere.model.Model;
+import foodwhere.model.query.DateTerm;
+import foodwhere.model.review.Review;
+
+/**
+ * Lists the reviews in FoodWhere dated in a range of dates, or in the last few days, latest first.
+ */
+public class RDateCommand extends Command {
+
+    public static final String COMMAND_WORD = "rdate";
+
+    public static final String MESSAGE_INVALID_DAYS = "The number of days should be a positive integer";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the reviews dated from FROM to TO "
+            + "(inclusive), or in the last DAYS days including today, "
+            + "and displays them as a list with index numbers, latest first.\n"
+            + "Parameters: "
+            + CliSyntax.PREFIX_DATE + "FROM..TO (either may be left out) or DAYS\n"
+            + "Example: " + COMMAND_WORD + " "
+            + CliSyntax.PREFIX_DATE + "01/01/2022..31/12/2022\n"
+            + "Example: " + COMMAND_WORD + " 7";
+
+    private final DateTerm range;
+    private final Integer days;
+
+    /**
+     * Creates an RDateCommand to list the reviews dated in {@code range}.
+     *
+     * @param range Dates of the reviews to list.
+     */
+    public RDateCommand(DateTerm range) {
+        requireNonNull(range);
+        this.range = range;
+        this.days = null;
+    }
+
+    /**
+     * Creates an RDateCommand to list the reviews dated in the last {@code days} days, including today.
+     *
+     * @param days Number of days, which must be positive.
+     */
+    public RDateCommand(int days) {
+        checkArgument(days > 0, MESSAGE_INVALID_DAYS);
+        this.range = null;
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Review> results = getReviews(model);
+        Map<Review, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            // the results are earliest first
+            ranks.put(results.get(i), results.size() - i);
+        }
+
+        model.updateFilteredReviewList(ranks::containsKey, Comparator.comparing(ranks::get));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_REVIEWS_LISTED_OVERVIEW, model.getFilteredReviewList().size()));
+    }
+
+    private List<Review> getReviews(Model model) {
+        if (range != null) {
+            return model.getReviewsBetween(range.getFrom(), range.getTo());
+        }
+        LocalDate today = LocalDate.now();
+        return model.getReviewsBetween(today.minusDays(days - 1), today);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RDateCommand // instanceof handles nulls
+                && Objects.equals(range, ((RDateCommand) other).range)
+                && Objects.equals(days, ((RDateCommand) other).days)); // state check
+    }
+}
@@ -0,0 +1,60 @@
+package foodwhere.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import foodwhere.model.Model;
+import foodwhere.model.commons.Tag;
+import foodwhere.model.review.Rating;
+import foodwhere.model.review.ReviewFacets;
+
+/**
+ * Shows the number of listed reviews with each tag, each rating and in each month in FoodWhere.
+ */
+public class RFacetsCommand extends Command {
+
+    public static final String COMMAND_WORD = "rfacets";
+
+    public static final String MESSAGE_SUCCESS = "Facets of the %1$d reviews listed:\n"
+            + "Tags: %2$s\n"
+            + "Ratings: %3$s\n"
+            + "Months: %4$s";
+
+    public static final String MESSAGE_NO_REVIEWS = "There are no reviews listed";
+
+    public static final String MESSAGE_NONE = "none";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ReviewFacets facets = ReviewFacets.of(model.getFilteredReviewList());
+        if (facets.getReviewCount() == 0) {
+            return new CommandResult(MESSAGE_NO_REVIEWS);
+        }
+        return new CommandResult(formatFacets(facets));
+    }
+
+    /**
+     * Returns {@code facets} in a readable form.
+     */
+    private static String formatFacets(ReviewFacets facets) {
+        StringJoiner tags = new StringJoiner(", ").setEmptyValue(MESSAGE_NONE);
+        for (Map.Entry<Tag, Integer> entry : facets.getTagCounts().entrySet()) {
+            tags.add(entry.getKey().tag + " (" + entry.getValue() + ")");
+        }
+
+        StringJoiner ratings = new StringJoiner(", ");
+        for (int rating = Rating.MAX_RATING; rating >= Rating.MIN_RATING; rating--) {
+            ratings.add(rating + ": " + facets.getRatingCount(rating));
+        }
+
+        StringJoiner months = new StringJoiner(", ");
+        for (Map.Entry<YearMonth, Integer> entry : facets.getMonthCounts().entrySet()) {
+            months.add(entry.getKey() + " (" + entry.getValue() + ")");
+        }
+        return String.format(MESSAGE_SUCCESS, facets.getReviewCount(), tags, ratings, months);
+    }
+}
@@ -0,0 +1,49 @@
+package foodwhere.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.model.Model;
+import foodwhere.model.query.Query;
+import foodwhere.model.query.ReviewQueryIndex;
+
+/**
+ * Lists all reviews in FoodWhere matching a query of terms combined with AND, OR and NOT.
+ */
+public class RFilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "rfilter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all reviews matching the query "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: QUERY, made of the terms n/WORD, t/TAG, r/MIN..MAX and d/FROM..TO "
+            + "combined with AND, OR, NOT and parentheses\n"
+            + "Example: " + COMMAND_WORD + " t/halal AND r/4..5 AND NOT d/..31/12/2021";
+
+    private final Query query;
+
+    /**
+     * Creates an RFilterCommand to list the reviews matching {@code query}.
+     *
+     * @param query Query to filter the review list by.
+     */
+    public RFilterCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredReviewList(query.plan(new ReviewQueryIndex(model)).toPredicate());
+        return new CommandResult(
+                String.format(Messages.MESSAGE_REVIEWS_LISTED_OVERVIEW, model.getFilteredReviewList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RFilterCommand // instanceof handles nulls
+                && query.equals(((RFilterCommand) other).query)); // state check
+    }
+}
@@ -2,9 +2,13 @@ package foodwhere.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import foodwhere.commons.core.Messages;
 import foodwhere.logic.parser.CliSyntax;
 import foodwhere.model.Model;
+import foodwhere.model.review.Review;
 import foodwhere.model.review.ReviewContainsKeywordsPredicate;
 
 /**
@@ -38,7 +42,9 @@ public class RFindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredReviewList(predicate);
+        Set<Review> matches = new HashSet<>(model.getReviewsWithAnyTag(predicate.getTagKeywords()));
+        matches.addAll(model.getReviewsWithAnyNameWord(predicate.getNameKeywords()));
+        model.updateFilteredReviewList(predicate.withMatches(matches));
         return new CommandResult(
                 String.format(Messages.MESSAGE_REVIEWS_LISTED_OVERVIEW, model.getFilteredReviewList().size()));
     }
@@ -0,0 +1,67 @@
+package foodwhere.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.logic.parser.CliSyntax;
+import foodwhere.model.Model;
+import foodwhere.model.review.Review;
+
+/**
+ * Finds and lists the reviews in FoodWhere whose contents are most relevant to the argument words,
+ * most relevant first.
+ * Word matching is case-insensitive.
+ */
+public class RSearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "rsearch";
+
+    /** Maximum number of reviews listed. */
+    public static final int MAX_RESULTS = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the reviews whose contents best match the "
+            + "specified words (case-insensitive) and displays them as a list with index numbers, "
+            + "most relevant first.\n"
+            + "Parameters: "
+            + CliSyntax.PREFIX_CONTENT + "WORDS...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + CliSyntax.PREFIX_CONTENT + "spicy noodles";
+
+    private final String query;
+
+    /**
+     * Creates an RSearchCommand to find the reviews matching {@code query}.
+     *
+     * @param query Text containing the words to search review contents for.
+     */
+    public RSearchCommand(String query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Review> results = model.searchReviewContents(query, MAX_RESULTS);
+        Map<Review, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            ranks.put(results.get(i), i);
+        }
+
+        model.updateFilteredReviewList(ranks::containsKey, Comparator.comparing(ranks::get));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_REVIEWS_LISTED_OVERVIEW, model.getFilteredReviewList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RSearchCommand // instanceof handles nulls
+                && query.equals(((RSearchCommand) other).query)); // state check
+    }
+}
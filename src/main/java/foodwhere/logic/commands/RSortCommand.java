@@ -1,9 +1,17 @@
 package foodwhere.logic.commands;
 
+import static foodwhere.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+
 import foodwhere.logic.commands.exceptions.CommandException;
 import foodwhere.model.Model;
+import foodwhere.model.review.Review;
 import foodwhere.model.review.comparator.ReviewsComparatorList;
 
 /**
@@ -15,12 +23,13 @@ public class RSortCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Sort the review list by specified criteria. See user guide for the list of criteria supported.\n"
-            + "Parameters: CRITERIA (case-insensitive)\n"
-            + "Example: " + COMMAND_WORD + " name";
+            + "Parameters: CRITERIA (case-insensitive), where later criteria order the reviews that are equal "
+            + "by earlier criteria\n"
+            + "Example: " + COMMAND_WORD + " reversedrating reverseddate";
 
     public static final String MESSAGE_SUCCESS = "The review list is now sorted by %1$s";
 
-    private final ReviewsComparatorList reviewsComparator;
+    private final List<ReviewsComparatorList> reviewsComparators;
 
     /**
      * Creates an RSortCommand to sort the specified {@code Review}s based on a criteria.
@@ -28,21 +37,41 @@ public class RSortCommand extends Command {
      * @param reviewsComparator Comparator for the {@code Review}s.
      */
     public RSortCommand(ReviewsComparatorList reviewsComparator) {
-        this.reviewsComparator = reviewsComparator;
+        this(Collections.singletonList(reviewsComparator));
+    }
+
+    /**
+     * Creates an RSortCommand to sort the specified {@code Review}s based on several criteria.
+     * {@code Review}s that are equal by a criterion are sorted by the next criterion.
+     *
+     * @param reviewsComparators Comparators for the {@code Review}s, which must not be empty.
+     */
+    public RSortCommand(List<ReviewsComparatorList> reviewsComparators) {
+        requireNonNull(reviewsComparators);
+        checkArgument(!reviewsComparators.isEmpty(), "There should be at least one criterion");
+        this.reviewsComparators = new ArrayList<>(reviewsComparators);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        model.sortReviews(reviewsComparator.getComparator());
-        return new CommandResult(String.format(MESSAGE_SUCCESS, reviewsComparator.getCriteria()));
+        Comparator<Review> comparator = reviewsComparators.get(0).getComparator();
+        StringJoiner criteria = new StringJoiner(", then ");
+        criteria.add(reviewsComparators.get(0).getCriteria());
+        for (ReviewsComparatorList reviewsComparator : reviewsComparators.subList(1, reviewsComparators.size())) {
+            comparator = comparator.thenComparing(reviewsComparator.getComparator());
+            criteria.add(reviewsComparator.getCriteria());
+        }
+
+        model.sortReviews(comparator);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, criteria));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof RSortCommand // instanceof handles nulls
-                && reviewsComparator.equals(((RSortCommand) other).reviewsComparator)); // state check
+                && reviewsComparators.equals(((RSortCommand) other).reviewsComparators)); // state check
     }
 }
@@ -0,0 +1,94 @@
+package foodwhere.logic.commands;
+
+import static foodwhere.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.logic.parser.CliSyntax;
+import foodwhere.model.Model;
+import foodwhere.model.commons.Tag;
+import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallIdentity;
+
+/**
+ * Lists the stalls in FoodWhere with the highest average ratings, highest first.
+ */
+public class SBestCommand extends Command {
+
+    public static final String COMMAND_WORD = "sbest";
+
+    /** Number of stalls listed if no count is given. */
+    public static final int DEFAULT_COUNT = 5;
+
+    /** Minimum number of reviews of the stalls listed if no minimum is given. */
+    public static final int DEFAULT_MIN_REVIEWS = 1;
+
+    public static final String MESSAGE_INVALID_COUNT = "The number of stalls and the minimum number of reviews "
+            + "should be positive integers";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the stalls with the highest average ratings, "
+            + "highest first. Only stalls with at least MIN_REVIEWS reviews, and with TAG if it is given, "
+            + "are listed.\n"
+            + "Parameters: [COUNT (default " + DEFAULT_COUNT + ")] "
+            + "[" + CliSyntax.PREFIX_MIN_REVIEWS + "MIN_REVIEWS (default " + DEFAULT_MIN_REVIEWS + ")] "
+            + "[" + CliSyntax.PREFIX_TAG + "TAG]\n"
+            + "Example: " + COMMAND_WORD + " 3 "
+            + CliSyntax.PREFIX_MIN_REVIEWS + "2 "
+            + CliSyntax.PREFIX_TAG + "halal";
+
+    private final int count;
+    private final int minReviews;
+    private final Optional<Tag> tag;
+
+    /**
+     * Creates an SBestCommand to list the best rated stalls.
+     *
+     * @param count Maximum number of stalls to list, which must be positive.
+     * @param minReviews Minimum number of reviews of the stalls listed, which must be positive.
+     * @param tag Tag the stalls listed must have, if present.
+     */
+    public SBestCommand(int count, int minReviews, Optional<Tag> tag) {
+        requireNonNull(tag);
+        checkArgument(count > 0 && minReviews > 0, MESSAGE_INVALID_COUNT);
+        this.count = count;
+        this.minReviews = minReviews;
+        this.tag = tag;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Stall> results = model.getTopRatedStalls(count, minReviews, tag);
+        Map<StallIdentity, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            ranks.put(results.get(i).getIdentity(), i);
+        }
+
+        model.updateFilteredStallList(stall -> ranks.containsKey(stall.getIdentity()),
+                Comparator.comparing(stall -> ranks.get(stall.getIdentity())));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_STALLS_LISTED_OVERVIEW, model.getFilteredStallList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SBestCommand)) {
+            return false;
+        }
+
+        SBestCommand otherCommand = (SBestCommand) other;
+        return count == otherCommand.count
+                && minReviews == otherCommand.minReviews
+                && tag.equals(otherCommand.tag);
+    }
+}
@@ -0,0 +1,51 @@
+package foodwhere.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.model.Model;
+import foodwhere.model.query.Query;
+import foodwhere.model.query.StallQueryIndex;
+
+/**
+ * Lists all stalls in FoodWhere matching a query of terms combined with AND, OR and NOT.
+ * Rating and date terms match the stalls having any review matching them.
+ */
+public class SFilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "sfilter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all stalls matching the query "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: QUERY, made of the terms n/WORD, t/TAG, r/MIN..MAX and d/FROM..TO "
+            + "combined with AND, OR, NOT and parentheses. "
+            + "A stall matches r/ and d/ terms if any of its reviews does.\n"
+            + "Example: " + COMMAND_WORD + " (t/halal OR t/vegetarian) AND NOT n/chicken";
+
+    private final Query query;
+
+    /**
+     * Creates an SFilterCommand to list the stalls matching {@code query}.
+     *
+     * @param query Query to filter the stall list by.
+     */
+    public SFilterCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredStallList(query.plan(new StallQueryIndex(model)).toPredicate());
+        return new CommandResult(
+                String.format(Messages.MESSAGE_STALLS_LISTED_OVERVIEW, model.getFilteredStallList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SFilterCommand // instanceof handles nulls
+                && query.equals(((SFilterCommand) other).query)); // state check
+    }
+}
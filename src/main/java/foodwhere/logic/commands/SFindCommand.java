@@ -2,10 +2,14 @@ package foodwhere.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import foodwhere.commons.core.Messages;
 import foodwhere.logic.parser.CliSyntax;
 import foodwhere.model.Model;
 import foodwhere.model.stall.StallContainsKeywordsPredicate;
+import foodwhere.model.stall.StallIdentity;
 
 /**
  * Finds and lists all stalls in FoodWhere whose name or tags contain any of the argument keywords.
@@ -39,7 +43,9 @@ public class SFindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStallList(predicate);
+        Set<StallIdentity> matches = new HashSet<>(model.getStallsWithAnyTag(predicate.getTagKeywords()));
+        matches.addAll(model.getStallsWithAnyNameWord(predicate.getNameKeywords()));
+        model.updateFilteredStallList(predicate.withMatches(matches));
         return new CommandResult(
                 String.format(Messages.MESSAGE_STALLS_LISTED_OVERVIEW, model.getFilteredStallList().size()));
     }
@@ -1,9 +1,17 @@
 package foodwhere.logic.commands;
 
+import static foodwhere.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+
 import foodwhere.logic.commands.exceptions.CommandException;
 import foodwhere.model.Model;
+import foodwhere.model.stall.Stall;
 import foodwhere.model.stall.comparator.StallsComparatorList;
 
 /**
@@ -15,12 +23,13 @@ public class SSortCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Sort the stall list by specified criteria. See user guide for the list of criteria supported.\n"
-            + "Parameters: CRITERIA (case-insensitive)\n"
-            + "Example: " + COMMAND_WORD + " name";
+            + "Parameters: CRITERIA (case-insensitive), where later criteria order the stalls that are equal "
+            + "by earlier criteria\n"
+            + "Example: " + COMMAND_WORD + " reversedrating name";
 
     public static final String MESSAGE_SUCCESS = "The stall list is now sorted by %1$s";
 
-    private final StallsComparatorList stallsComparator;
+    private final List<StallsComparatorList> stallsComparators;
 
     /**
      * Creates an SSortCommand to sort the specified {@code Stall}s based on a criteria.
@@ -28,21 +37,41 @@ public class SSortCommand extends Command {
      * @param stallsComparator Comparator for the {@code Stall}s.
      */
     public SSortCommand(StallsComparatorList stallsComparator) {
-        this.stallsComparator = stallsComparator;
+        this(Collections.singletonList(stallsComparator));
+    }
+
+    /**
+     * Creates an SSortCommand to sort the specified {@code Stall}s based on several criteria.
+     * {@code Stall}s that are equal by a criterion are sorted by the next criterion.
+     *
+     * @param stallsComparators Comparators for the {@code Stall}s, which must not be empty.
+     */
+    public SSortCommand(List<StallsComparatorList> stallsComparators) {
+        requireNonNull(stallsComparators);
+        checkArgument(!stallsComparators.isEmpty(), "There should be at least one criterion");
+        this.stallsComparators = new ArrayList<>(stallsComparators);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        model.sortStalls(stallsComparator.getComparator());
-        return new CommandResult(String.format(MESSAGE_SUCCESS, stallsComparator.getCriteria()));
+        Comparator<Stall> comparator = stallsComparators.get(0).getComparator();
+        StringJoiner criteria = new StringJoiner(", then ");
+        criteria.add(stallsComparators.get(0).getCriteria());
+        for (StallsComparatorList stallsComparator : stallsComparators.subList(1, stallsComparators.size())) {
+            comparator = comparator.thenComparing(stallsComparator.getComparator());
+            criteria.add(stallsComparator.getCriteria());
+        }
+
+        model.sortStalls(comparator);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, criteria));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof SSortCommand // instanceof handles nulls
-                && stallsComparator.equals(((SSortCommand) other).stallsComparator)); // state check
+                && stallsComparators.equals(((SSortCommand) other).stallsComparators)); // state check
     }
 }
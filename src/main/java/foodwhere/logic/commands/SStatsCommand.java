@@ -0,0 +1,93 @@
+package foodwhere.logic.commands;
+
+import static foodwhere.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static foodwhere.commons.core.Messages.MESSAGE_INVALID_INDEX;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import foodwhere.commons.core.index.Index;
+import foodwhere.logic.commands.exceptions.CommandException;
+import foodwhere.model.Model;
+import foodwhere.model.review.Date;
+import foodwhere.model.review.Rating;
+import foodwhere.model.stall.RatingStats;
+import foodwhere.model.stall.Stall;
+
+/**
+ * Shows the rating stats of a stall identified using its displayed index from the address book in FoodWhere.
+ */
+public class SStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "sstats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of reviews, average rating, ratings and latest review date of the stall "
+            + "identified by the index number used in the displayed stall list.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_STATS = "Stats of %1$s:\n"
+            + "Reviews: %2$d, average rating: %3$.2f\n"
+            + "Ratings: %4$s\n"
+            + "Latest review: %5$s";
+
+    public static final String MESSAGE_NO_REVIEWS = "%1$s has no reviews yet";
+
+    public static final String MESSAGE_INVALID_INDEX_ERROR =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_INVALID_INDEX)
+                    + SStatsCommand.MESSAGE_USAGE;
+
+    private final Index targetIndex;
+
+    /**
+     * Creates an SStatsCommand to show the rating stats of the specified {@code Stall}.
+     *
+     * @param targetIndex Index of the Stall in the observed list.
+     */
+    public SStatsCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Stall> lastShownList = model.getFilteredStallList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(MESSAGE_INVALID_INDEX_ERROR);
+        }
+
+        Stall stall = lastShownList.get(targetIndex.getZeroBased());
+        return new CommandResult(formatStats(stall));
+    }
+
+    /**
+     * Returns the rating stats of {@code stall} in a readable form.
+     */
+    private static String formatStats(Stall stall) {
+        RatingStats stats = stall.getRatingStats();
+        String name = stall.getName().fullName;
+        if (stats.getCount() == 0) {
+            return String.format(MESSAGE_NO_REVIEWS, name);
+        }
+
+        StringBuilder ratings = new StringBuilder();
+        for (int rating = Rating.MAX_RATING; rating >= Rating.MIN_RATING; rating--) {
+            if (ratings.length() > 0) {
+                ratings.append(", ");
+            }
+            ratings.append(rating).append(": ").append(stats.getCount(rating));
+        }
+        return String.format(MESSAGE_STATS, name, stats.getCount(), stats.getAverage().getAsDouble(), ratings,
+                stats.getLatestDate().get().format(Date.OUTPUT_DATE_FORMAT));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SStatsCommand // instanceof handles nulls
+                && targetIndex.equals(((SStatsCommand) other).targetIndex)); // state check
+    }
+}
@@ -11,17 +11,24 @@ import foodwhere.logic.commands.Command;
 import foodwhere.logic.commands.ExitCommand;
 import foodwhere.logic.commands.HelpCommand;
 import foodwhere.logic.commands.RAddCommand;
+import foodwhere.logic.commands.RDateCommand;
 import foodwhere.logic.commands.RDeleteCommand;
 import foodwhere.logic.commands.REditCommand;
+import foodwhere.logic.commands.RFacetsCommand;
+import foodwhere.logic.commands.RFilterCommand;
 import foodwhere.logic.commands.RFindCommand;
 import foodwhere.logic.commands.RListCommand;
+import foodwhere.logic.commands.RSearchCommand;
 import foodwhere.logic.commands.RSortCommand;
 import foodwhere.logic.commands.SAddCommand;
+import foodwhere.logic.commands.SBestCommand;
 import foodwhere.logic.commands.SDeleteCommand;
 import foodwhere.logic.commands.SEditCommand;
+import foodwhere.logic.commands.SFilterCommand;
 import foodwhere.logic.commands.SFindCommand;
 import foodwhere.logic.commands.SListCommand;
 import foodwhere.logic.commands.SSortCommand;
+import foodwhere.logic.commands.SStatsCommand;
 import foodwhere.logic.parser.exceptions.ParseException;
 
 /**
@@ -87,6 +94,27 @@ public class AddressBookParser {
         case SEditCommand.COMMAND_WORD:
             return new SEditCommandParser().parse(arguments);
 
+        case RSearchCommand.COMMAND_WORD:
+            return new RSearchCommandParser().parse(arguments);
+
+        case RFilterCommand.COMMAND_WORD:
+            return new RFilterCommandParser().parse(arguments);
+
+        case SFilterCommand.COMMAND_WORD:
+            return new SFilterCommandParser().parse(arguments);
+
+        case RDateCommand.COMMAND_WORD:
+            return new RDateCommandParser().parse(arguments);
+
+        case RFacetsCommand.COMMAND_WORD:
+            return new RFacetsCommand();
+
+        case SStatsCommand.COMMAND_WORD:
+            return new SStatsCommandParser().parse(arguments);
+
+        case SBestCommand.COMMAND_WORD:
+            return new SBestCommandParser().parse(arguments);
+
         case SFindCommand.COMMAND_WORD:
             return new SFindCommandParser().parse(arguments);
 
@@ -13,6 +13,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_DATE = new Prefix("d/");
     public static final Prefix PREFIX_STALL_INDEX = new Prefix("s/");
     public static final Prefix PREFIX_RATING = new Prefix("r/");
+    public static final Prefix PREFIX_MIN_REVIEWS = new Prefix("m/");
 
 
 }
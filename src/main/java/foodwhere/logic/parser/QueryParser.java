@@ -0,0 +1,220 @@
+package foodwhere.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import foodwhere.logic.parser.exceptions.ParseException;
+import foodwhere.model.query.CompoundQuery;
+import foodwhere.model.query.DateTerm;
+import foodwhere.model.query.NameTerm;
+import foodwhere.model.query.NotQuery;
+import foodwhere.model.query.Query;
+import foodwhere.model.query.RatingTerm;
+import foodwhere.model.query.TagTerm;
+import foodwhere.model.review.Date;
+import foodwhere.model.review.Rating;
+
+/**
+ * Parses a query of terms combined with AND, OR, NOT and parentheses into a {@code Query}.
+ * NOT binds tightest and OR loosest, and adjacent terms without an operator are combined with AND.
+ * <br>Terms:<pre>
+ *     n/WORD             name contains WORD
+ *     t/TAG              has TAG
+ *     r/RATING           rating is RATING; r/MIN..MAX, r/MIN.. and r/..MAX give an inclusive range
+ *     d/DATE             dated DATE; d/FROM..TO, d/FROM.. and d/..TO give an inclusive range
+ * </pre>
+ */
+public class QueryParser {
+
+    public static final String MESSAGE_EMPTY_QUERY = "The query should not be empty";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected \"%1$s\" in the query";
+    public static final String MESSAGE_UNEXPECTED_END = "The query ended unexpectedly";
+    public static final String MESSAGE_INVALID_TERM =
+            "Invalid term \"%1$s\": terms should start with n/, t/, r/ or d/";
+
+    private static final String RANGE_SEPARATOR = "..";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+
+    private final List<String> tokens;
+    private int position;
+
+    private QueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code input} into a {@code Query}.
+     *
+     * @throws ParseException if {@code input} is not a valid query.
+     */
+    public static Query parse(String input) throws ParseException {
+        requireNonNull(input);
+        List<String> tokens = tokenize(input);
+        if (tokens.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_QUERY);
+        }
+
+        QueryParser parser = new QueryParser(tokens);
+        Query query = parser.parseOr();
+        if (parser.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, parser.peek()));
+        }
+        return query;
+    }
+
+    /**
+     * Splits {@code input} at whitespace, with each parenthesis as a separate token.
+     */
+    private static List<String> tokenize(String input) {
+        String spacedInput = input.replace(OPEN_PARENTHESIS, " ( ").replace(CLOSE_PARENTHESIS, " ) ");
+        List<String> tokens = new ArrayList<>();
+        for (String token : spacedInput.trim().split("\\s+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private Query parseOr() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (isNext(OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new CompoundQuery(CompoundQuery.Operator.OR, operands);
+    }
+
+    private Query parseAnd() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (hasNext() && !isNext(OR) && !isNext(CLOSE_PARENTHESIS)) {
+            if (isNext(AND)) {
+                position++;
+            }
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new CompoundQuery(CompoundQuery.Operator.AND, operands);
+    }
+
+    private Query parseNot() throws ParseException {
+        if (isNext(NOT)) {
+            position++;
+            return new NotQuery(parseNot());
+        }
+        return parsePrimary();
+    }
+
+    private Query parsePrimary() throws ParseException {
+        if (!hasNext()) {
+            throw new ParseException(MESSAGE_UNEXPECTED_END);
+        }
+
+        String token = tokens.get(position++);
+        if (token.equals(OPEN_PARENTHESIS)) {
+            Query query = parseOr();
+            if (!hasNext()) {
+                throw new ParseException(MESSAGE_UNEXPECTED_END);
+            }
+            if (!isNext(CLOSE_PARENTHESIS)) {
+                throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, peek()));
+            }
+            position++;
+            return query;
+        }
+        if (token.equals(CLOSE_PARENTHESIS) || isOperator(token)) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+        }
+        return parseTerm(token);
+    }
+
+    /**
+     * Parses a term of the form {@code PREFIX VALUE}.
+     */
+    private static Query parseTerm(String token) throws ParseException {
+        if (token.startsWith(CliSyntax.PREFIX_NAME.getPrefix())) {
+            return new NameTerm(ParserUtil.parseName(valueOf(token, CliSyntax.PREFIX_NAME)));
+        } else if (token.startsWith(CliSyntax.PREFIX_TAG.getPrefix())) {
+            return new TagTerm(ParserUtil.parseTag(valueOf(token, CliSyntax.PREFIX_TAG)));
+        } else if (token.startsWith(CliSyntax.PREFIX_RATING.getPrefix())) {
+            return parseRatingTerm(valueOf(token, CliSyntax.PREFIX_RATING));
+        } else if (token.startsWith(CliSyntax.PREFIX_DATE.getPrefix())) {
+            return parseDateTerm(valueOf(token, CliSyntax.PREFIX_DATE));
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_TERM, token));
+    }
+
+    private static RatingTerm parseRatingTerm(String value) throws ParseException {
+        if (value.isEmpty()) {
+            throw new ParseException(Rating.MESSAGE_CONSTRAINTS);
+        }
+        String[] bounds = splitRange(value);
+        int min = bounds[0].isEmpty() ? Rating.MIN_RATING : ParserUtil.parseRating(bounds[0]).value;
+        int max = bounds[1].isEmpty() ? Rating.MAX_RATING : ParserUtil.parseRating(bounds[1]).value;
+        if (min > max) {
+            throw new ParseException(RatingTerm.MESSAGE_CONSTRAINTS);
+        }
+        return new RatingTerm(min, max);
+    }
+
+    /**
+     * Parses the value of a date term, {@code DATE}, {@code FROM..TO}, {@code FROM..} or {@code ..TO},
+     * into a {@code DateTerm}.
+     *
+     * @throws ParseException if {@code value} is not a valid date or range of dates.
+     */
+    public static DateTerm parseDateTerm(String value) throws ParseException {
+        requireNonNull(value);
+        if (value.isEmpty()) {
+            throw new ParseException(Date.MESSAGE_CONSTRAINTS);
+        }
+        String[] bounds = splitRange(value);
+        LocalDate from = bounds[0].isEmpty() ? LocalDate.MIN : ParserUtil.parseDate(bounds[0]).date;
+        LocalDate to = bounds[1].isEmpty() ? LocalDate.MAX : ParserUtil.parseDate(bounds[1]).date;
+        if (from.isAfter(to)) {
+            throw new ParseException(DateTerm.MESSAGE_CONSTRAINTS);
+        }
+        return new DateTerm(from, to);
+    }
+
+    /**
+     * Splits {@code value} into the lower and upper bounds of a range, either of which may be empty.
+     * A value without {@code ..} is a range of a single value.
+     */
+    private static String[] splitRange(String value) {
+        int separatorIndex = value.indexOf(RANGE_SEPARATOR);
+        if (separatorIndex < 0) {
+            return new String[] {value, value};
+        }
+        return new String[] {value.substring(0, separatorIndex),
+            value.substring(separatorIndex + RANGE_SEPARATOR.length())};
+    }
+
+    private static String valueOf(String token, Prefix prefix) {
+        return token.substring(prefix.getPrefix().length());
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equalsIgnoreCase(AND) || token.equalsIgnoreCase(OR) || token.equalsIgnoreCase(NOT);
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+
+    private boolean isNext(String token) {
+        return hasNext() && peek().equalsIgnoreCase(token);
+    }
+}
@@ -0,0 +1,39 @@
+package foodwhere.logic.parser;
+
+import static foodwhere.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import foodwhere.commons.util.StringUtil;
+import foodwhere.logic.commands.RDateCommand;
+import foodwhere.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RDateCommand object.
+ */
+public class RDateCommandParser implements Parser<RDateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RDateCommand
+     * and returns a RDateCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public RDateCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_DATE);
+
+        String preamble = argMultimap.getPreamble();
+        Optional<String> range = argMultimap.getValue(CliSyntax.PREFIX_DATE);
+        if (range.isPresent() && preamble.isEmpty()) {
+            return new RDateCommand(QueryParser.parseDateTerm(range.get().trim()));
+        }
+        if (range.isPresent() || preamble.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RDateCommand.MESSAGE_USAGE));
+        }
+
+        if (!StringUtil.isNonZeroUnsignedInteger(preamble)) {
+            throw new ParseException(RDateCommand.MESSAGE_INVALID_DAYS);
+        }
+        return new RDateCommand(Integer.parseInt(preamble));
+    }
+}
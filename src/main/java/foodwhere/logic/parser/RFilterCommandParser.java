@@ -0,0 +1,25 @@
+package foodwhere.logic.parser;
+
+import static foodwhere.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import foodwhere.logic.commands.RFilterCommand;
+import foodwhere.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RFilterCommand object.
+ */
+public class RFilterCommandParser implements Parser<RFilterCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RFilterCommand
+     * and returns a RFilterCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public RFilterCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RFilterCommand.MESSAGE_USAGE));
+        }
+        return new RFilterCommand(QueryParser.parse(args));
+    }
+}
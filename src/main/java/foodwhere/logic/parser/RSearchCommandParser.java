@@ -0,0 +1,33 @@
+package foodwhere.logic.parser;
+
+import static foodwhere.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import foodwhere.logic.commands.RSearchCommand;
+import foodwhere.logic.parser.exceptions.ParseException;
+import foodwhere.model.review.ReviewContentIndex;
+
+/**
+ * Parses input arguments and creates a new RSearchCommand object.
+ */
+public class RSearchCommandParser implements Parser<RSearchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RSearchCommand
+     * and returns a RSearchCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public RSearchCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_CONTENT);
+
+        Optional<String> query = argMultimap.getValue(CliSyntax.PREFIX_CONTENT);
+        if (!query.isPresent() || !argMultimap.getPreamble().isEmpty()
+                || ReviewContentIndex.toWords(query.get()).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RSearchCommand.MESSAGE_USAGE));
+        }
+
+        return new RSearchCommand(query.get().trim());
+    }
+}
@@ -2,6 +2,9 @@ package foodwhere.logic.parser;
 
 import static foodwhere.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import foodwhere.logic.commands.RSortCommand;
 import foodwhere.logic.parser.exceptions.ParseException;
 import foodwhere.model.review.comparator.ReviewsComparatorList;
@@ -19,8 +22,11 @@ public class RSortCommandParser implements Parser<RSortCommand> {
      */
     public RSortCommand parse(String args) throws ParseException {
         try {
-            ReviewsComparatorList reviewsComparator = ParserUtil.parseReviewCriteria(args);
-            return new RSortCommand(reviewsComparator);
+            List<ReviewsComparatorList> reviewsComparators = new ArrayList<>();
+            for (String criterion : args.trim().split("\\s+")) {
+                reviewsComparators.add(ParserUtil.parseReviewCriteria(criterion));
+            }
+            return new RSortCommand(reviewsComparators);
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RSortCommand.MESSAGE_USAGE), pe);
         }
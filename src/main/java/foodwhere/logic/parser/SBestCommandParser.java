@@ -0,0 +1,44 @@
+package foodwhere.logic.parser;
+
+import java.util.Optional;
+
+import foodwhere.commons.util.StringUtil;
+import foodwhere.logic.commands.SBestCommand;
+import foodwhere.logic.parser.exceptions.ParseException;
+import foodwhere.model.commons.Tag;
+
+/**
+ * Parses input arguments and creates a new SBestCommand object.
+ */
+public class SBestCommandParser implements Parser<SBestCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SBestCommand
+     * and returns a SBestCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public SBestCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                CliSyntax.PREFIX_MIN_REVIEWS, CliSyntax.PREFIX_TAG);
+
+        String preamble = argMultimap.getPreamble();
+        int count = preamble.isEmpty() ? SBestCommand.DEFAULT_COUNT : parsePositiveInteger(preamble);
+        Optional<String> minReviews = argMultimap.getValue(CliSyntax.PREFIX_MIN_REVIEWS);
+        int minReviewCount = minReviews.isPresent()
+                ? parsePositiveInteger(minReviews.get())
+                : SBestCommand.DEFAULT_MIN_REVIEWS;
+        Optional<String> tag = argMultimap.getValue(CliSyntax.PREFIX_TAG);
+        Optional<Tag> parsedTag = tag.isPresent() ? Optional.of(ParserUtil.parseTag(tag.get())) : Optional.empty();
+
+        return new SBestCommand(count, minReviewCount, parsedTag);
+    }
+
+    private static int parsePositiveInteger(String value) throws ParseException {
+        String trimmedValue = value.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedValue)) {
+            throw new ParseException(SBestCommand.MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedValue);
+    }
+}
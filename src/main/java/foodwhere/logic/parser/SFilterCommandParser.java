@@ -0,0 +1,25 @@
+package foodwhere.logic.parser;
+
+import static foodwhere.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import foodwhere.logic.commands.SFilterCommand;
+import foodwhere.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SFilterCommand object.
+ */
+public class SFilterCommandParser implements Parser<SFilterCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SFilterCommand
+     * and returns a SFilterCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public SFilterCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SFilterCommand.MESSAGE_USAGE));
+        }
+        return new SFilterCommand(QueryParser.parse(args));
+    }
+}
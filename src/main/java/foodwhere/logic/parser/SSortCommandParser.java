@@ -2,6 +2,9 @@ package foodwhere.logic.parser;
 
 import static foodwhere.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import foodwhere.logic.commands.SSortCommand;
 import foodwhere.logic.parser.exceptions.ParseException;
 import foodwhere.model.stall.comparator.StallsComparatorList;
@@ -19,8 +22,11 @@ public class SSortCommandParser implements Parser<SSortCommand> {
      */
     public SSortCommand parse(String args) throws ParseException {
         try {
-            StallsComparatorList stallsComparator = ParserUtil.parseStallCriteria(args);
-            return new SSortCommand(stallsComparator);
+            List<StallsComparatorList> stallsComparators = new ArrayList<>();
+            for (String criterion : args.trim().split("\\s+")) {
+                stallsComparators.add(ParserUtil.parseStallCriteria(criterion));
+            }
+            return new SSortCommand(stallsComparators);
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SSortCommand.MESSAGE_USAGE), pe);
         }
@@ -0,0 +1,29 @@
+package foodwhere.logic.parser;
+
+import static foodwhere.logic.commands.SStatsCommand.MESSAGE_INVALID_INDEX_ERROR;
+
+import foodwhere.commons.core.index.Index;
+import foodwhere.logic.commands.SStatsCommand;
+import foodwhere.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SStatsCommand object.
+ */
+public class SStatsCommandParser implements Parser<SStatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SStatsCommand
+     * and returns a SStatsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public SStatsCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new SStatsCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_ERROR);
+        }
+    }
+
+}
@@ -2,17 +2,37 @@ package foodwhere.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
+import foodwhere.commons.util.StringUtil;
+import foodwhere.model.commons.Name;
+import foodwhere.model.commons.Tag;
+import foodwhere.model.review.Rating;
 import foodwhere.model.review.Review;
+import foodwhere.model.review.ReviewContentIndex;
+import foodwhere.model.review.ReviewDateIndex;
+import foodwhere.model.review.ReviewSet;
 import foodwhere.model.review.UniqueReviewList;
 import foodwhere.model.stall.Stall;
 import foodwhere.model.stall.StallBuilder;
+import foodwhere.model.stall.StallIdentity;
 import foodwhere.model.stall.UniqueStallList;
+import foodwhere.model.stall.comparator.AverageRatingComparator;
+import foodwhere.model.stall.comparator.NameComparator;
+import foodwhere.model.stall.comparator.ReviewCountComparator;
 import foodwhere.model.stall.exceptions.StallNotFoundException;
+import foodwhere.model.util.InvertedIndex;
+import foodwhere.model.util.TopK;
 import javafx.collections.ObservableList;
 
 /**
@@ -21,8 +41,23 @@ import javafx.collections.ObservableList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** Orders stalls by average rating, then number of reviews, highest first, then by name. */
+    private static final Comparator<Stall> TOP_RATED_ORDER = new AverageRatingComparator().reversed()
+            .thenComparing(new ReviewCountComparator().reversed())
+            .thenComparing(new NameComparator());
+
     private final UniqueStallList stalls;
     private final UniqueReviewList reviews;
+    private final InvertedIndex<Tag, StallIdentity> stallTagIndex = new InvertedIndex<>();
+    private final InvertedIndex<Tag, Review> reviewTagIndex = new InvertedIndex<>();
+    private final InvertedIndex<String, StallIdentity> stallNameIndex = new InvertedIndex<>();
+    private final InvertedIndex<String, Review> reviewNameIndex = new InvertedIndex<>();
+    private final InvertedIndex<Integer, Review> reviewRatingIndex = new InvertedIndex<>();
+    private final ReviewContentIndex reviewContentIndex = new ReviewContentIndex();
+    private final ReviewDateIndex reviewDateIndex = new ReviewDateIndex();
+    private long modificationVersion;
+    /** The most recent change to the stalls, or null if there is none. */
+    private AddressBookChange lastChange;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,47 +81,137 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
-        refreshReviews();
     }
 
     /**
-     * Sets {@code reviews} correctly.
+     * Creates an AddressBook containing {@code stalls} and their reviews.
+     * The stall and review lists are each populated in a single pass.
+     *
+     * @param stalls List of stalls, which must not contain duplicate stalls.
      */
-    private void refreshReviews() {
-        ArrayList<Review> current = new ArrayList<>();
-        for (Stall stall : stalls) {
-            for (Review review : stall.getReviews()) {
-                current.add(review);
-            }
-        }
-        ArrayList<Review> toRemove = new ArrayList<>();
-        for (Review review : reviews) {
-            if (!current.contains(review)) {
+    public AddressBook(List<Stall> stalls) {
+        this();
+        requireNonNull(stalls);
+        setStalls(stalls);
+    }
+
+    /**
+     * Updates {@code reviews} after {@code oldStall} is replaced by {@code newStall} in {@code stalls}.
+     * Only the reviews of these two stalls are compared, and the parts of their review sets that are shared are
+     * skipped, so the cost is proportional to the number of reviews that changed.
+     * {@code oldStall} is null if a stall is added, and {@code newStall} is null if a stall is removed.
+     */
+    private void updateReviews(Stall oldStall, Stall newStall) {
+        ReviewSet oldReviews = oldStall == null ? ReviewSet.empty() : oldStall.getReviews();
+        ReviewSet newReviews = newStall == null ? ReviewSet.empty() : newStall.getReviews();
+
+        Set<Review> toRemove = new HashSet<>();
+        List<Review> toAdd = new ArrayList<>();
+        ReviewSet.diff(oldReviews, newReviews, review -> {
+            if (reviews.contains(review)) {
                 toRemove.add(review);
             }
+        }, review -> {
+            if (!reviews.contains(review)) {
+                toAdd.add(review);
+            }
+        });
+
+        if (!toRemove.isEmpty()) {
+            reviews.removeAll(toRemove);
+        }
+        if (!toAdd.isEmpty()) {
+            reviews.addAll(toAdd);
         }
         for (Review review : toRemove) {
-            reviews.remove(review);
+            reviewTagIndex.remove(review.getTags(), review);
+            reviewNameIndex.remove(review.getName().getFoldedWords(), review);
+            reviewRatingIndex.remove(Collections.singleton(review.getRating().value), review);
+            reviewContentIndex.remove(review);
+            reviewDateIndex.remove(review);
         }
-        for (Review review : current) {
-            if (!reviews.contains(review)) {
-                reviews.add(review);
-            }
+        for (Review review : toAdd) {
+            indexReview(review);
         }
     }
 
     /**
-     * Finds the {@code Stall} which this review refers to.
+     * Updates the stall indexes after {@code oldStall} is replaced by {@code newStall} in {@code stalls}.
+     * {@code oldStall} is null if a stall is added, and {@code newStall} is null if a stall is removed.
      */
-    private Stall getStallOfReview(Review review) throws StallNotFoundException {
+    private void updateStallIndexes(Stall oldStall, Stall newStall) {
+        if (oldStall != null) {
+            StallIdentity identity = oldStall.getIdentity();
+            stallTagIndex.remove(oldStall.getTags(), identity);
+            stallNameIndex.remove(oldStall.getName().getFoldedWords(), identity);
+        }
+        if (newStall != null) {
+            indexStall(newStall);
+        }
+    }
+
+    private void indexStall(Stall stall) {
+        StallIdentity identity = stall.getIdentity();
+        stallTagIndex.add(stall.getTags(), identity);
+        stallNameIndex.add(stall.getName().getFoldedWords(), identity);
+    }
+
+    private void indexReview(Review review) {
+        reviewTagIndex.add(review.getTags(), review);
+        reviewNameIndex.add(review.getName().getFoldedWords(), review);
+        reviewRatingIndex.add(Collections.singleton(review.getRating().value), review);
+        reviewContentIndex.add(review);
+        reviewDateIndex.add(review);
+    }
+
+    /**
+     * Rebuilds the tag and name indexes from the current stall and review lists.
+     */
+    private void rebuildIndexes() {
+        stallTagIndex.clear();
+        stallNameIndex.clear();
         for (Stall stall : stalls) {
-            boolean isMatchingName = stall.getName().equals(review.getName());
-            boolean isMatchingAddress = stall.getAddress().equals(review.getAddress());
-            if (isMatchingName && isMatchingAddress) {
-                return stall;
-            }
+            indexStall(stall);
+        }
+        reviewTagIndex.clear();
+        reviewNameIndex.clear();
+        reviewRatingIndex.clear();
+        reviewContentIndex.clear();
+        reviewDateIndex.clear();
+        for (Review review : reviews) {
+            indexReview(review);
+        }
+    }
+
+    /**
+     * Returns the case-folded words to look up for {@code nameKeywords}.
+     * Each keyword must be a single word, as required by {@link Name#containsWord(String)}.
+     */
+    private static List<String> toFoldedWords(Collection<Name> nameKeywords) {
+        List<String> words = new ArrayList<>();
+        for (Name keyword : nameKeywords) {
+            words.add(StringUtil.foldWord(keyword.fullName));
         }
-        throw new StallNotFoundException();
+        return words;
+    }
+
+    /**
+     * Returns all reviews of {@code stalls}, without duplicates.
+     */
+    private static List<Review> getAllReviews(List<Stall> stalls) {
+        Set<Review> allReviews = new LinkedHashSet<>();
+        for (Stall stall : stalls) {
+            allReviews.addAll(stall.getReviews());
+        }
+        return new ArrayList<>(allReviews);
+    }
+
+    /**
+     * Finds the {@code Stall} which this review refers to.
+     * The stall is looked up by its identity fields, so this does not scan the stall list.
+     */
+    private Stall getStallOfReview(Review review) throws StallNotFoundException {
+        return stalls.getStall(new StallIdentity(review.getName(), review.getAddress()));
     }
 
     //// list overwrite operations
@@ -99,7 +224,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setStalls(List<Stall> stalls) {
         this.stalls.setStalls(stalls);
-        refreshReviews();
+        this.reviews.setReviews(getAllReviews(stalls));
+        rebuildIndexes();
+        modificationVersion++;
+        lastChange = AddressBookChange.ofReset(stalls, lastChange);
     }
 
     /**
@@ -110,7 +238,6 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
         setStalls(newData.getStallList());
-        refreshReviews();
     }
 
     //// stall-level operations
@@ -126,6 +253,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return stalls.contains(stall);
     }
 
+    /**
+     * Returns the stall in the address book with the given {@code identity}, or {@code Optional.empty()} if there is
+     * none.
+     *
+     * @param identity Identity fields of the stall to be found.
+     */
+    public Optional<Stall> findStall(StallIdentity identity) {
+        return stalls.findStall(identity);
+    }
+
     /**
      * Adds a stall to the address book.
      * The stall must not already exist in the address book.
@@ -135,7 +272,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addStall(Stall p) {
         requireNonNull(p);
         stalls.add(p);
-        refreshReviews();
+        updateReviews(null, p);
+        updateStallIndexes(null, p);
+        modificationVersion++;
+        lastChange = AddressBookChange.ofStall(null, p, lastChange);
     }
 
     /**
@@ -149,7 +289,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setStall(Stall target, Stall editedStall) {
         requireNonNull(editedStall);
         stalls.setStall(target, editedStall);
-        refreshReviews();
+        updateReviews(target, editedStall);
+        updateStallIndexes(target, editedStall);
+        modificationVersion++;
+        lastChange = AddressBookChange.ofStall(target, editedStall, lastChange);
     }
 
     /**
@@ -160,7 +303,65 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeStall(Stall key) {
         stalls.remove(key);
-        refreshReviews();
+        updateReviews(key, null);
+        updateStallIndexes(key, null);
+        modificationVersion++;
+        lastChange = AddressBookChange.ofStall(key, null, lastChange);
+    }
+
+    /**
+     * Returns at most {@code limit} stalls with at least {@code minReviews} reviews, highest average rating first.
+     * Stalls with the same average rating are ordered by number of reviews, highest first, then by name.
+     * The stalls are ranked by their rating stats in a bounded heap, so the stall list is neither copied nor sorted.
+     *
+     * @param limit Maximum number of stalls to return, which must be positive.
+     * @param minReviews Minimum number of reviews of the stalls returned. Stalls without reviews are never returned.
+     * @param tag Tag the stalls returned must have, or {@code Optional.empty()} to rank all stalls. The stalls with
+     *     the tag are looked up in an index of stall tags.
+     */
+    public List<Stall> getTopRatedStalls(int limit, int minReviews, Optional<Tag> tag) {
+        requireNonNull(tag);
+        TopK<Stall> topStalls = new TopK<>(TOP_RATED_ORDER, limit);
+        int minCount = Math.max(minReviews, 1);
+        if (tag.isPresent()) {
+            for (StallIdentity identity : stallTagIndex.get(tag.get())) {
+                offerIfReviewed(topStalls, stalls.getStall(identity), minCount);
+            }
+        } else {
+            for (Stall stall : stalls) {
+                offerIfReviewed(topStalls, stall, minCount);
+            }
+        }
+        return topStalls.toList();
+    }
+
+    private static void offerIfReviewed(TopK<Stall> topStalls, Stall stall, int minReviews) {
+        if (stall.getRatingStats().getCount() >= minReviews) {
+            topStalls.offer(stall);
+        }
+    }
+
+    /**
+     * Returns the identities of the stalls having any of {@code tags}.
+     * The stalls are looked up in an index of their tags, so this does not scan the stall list.
+     *
+     * @param tags Tags to look up.
+     */
+    public Set<StallIdentity> getStallsWithAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return stallTagIndex.getAny(tags);
+    }
+
+    /**
+     * Returns the identities of the stalls whose names contain any of {@code nameKeywords} as a word, ignoring case.
+     * The stalls are looked up in an index of the words of their names, so this does not scan the stall list.
+     *
+     * @param nameKeywords Keywords to look up, each of which must be a single word.
+     * @throws IllegalArgumentException if a keyword is not a single word.
+     */
+    public Set<StallIdentity> getStallsWithAnyNameWord(Collection<Name> nameKeywords) {
+        requireNonNull(nameKeywords);
+        return stallNameIndex.getAny(toFoldedWords(nameKeywords));
     }
 
     /**
@@ -171,6 +372,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void sortStalls(Comparator<Stall> comparator) {
         requireNonNull(comparator);
         stalls.sort(comparator);
+        // the order of the stalls is saved, so reordering them is recorded as a reset of the stall list
+        lastChange = AddressBookChange.ofReset(stalls.asUnmodifiableObservableList(), lastChange);
     }
 
     //// review methods
@@ -247,6 +450,67 @@ public class AddressBook implements ReadOnlyAddressBook {
         setStall(oldStall, newStall);
     }
 
+    /**
+     * Returns the reviews having any of {@code tags}.
+     * The reviews are looked up in an index of their tags, so this does not scan the review list.
+     *
+     * @param tags Tags to look up.
+     */
+    public Set<Review> getReviewsWithAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return reviewTagIndex.getAny(tags);
+    }
+
+    /**
+     * Returns the reviews whose names contain any of {@code nameKeywords} as a word, ignoring case.
+     * The reviews are looked up in an index of the words of their names, so this does not scan the review list.
+     *
+     * @param nameKeywords Keywords to look up, each of which must be a single word.
+     * @throws IllegalArgumentException if a keyword is not a single word.
+     */
+    public Set<Review> getReviewsWithAnyNameWord(Collection<Name> nameKeywords) {
+        requireNonNull(nameKeywords);
+        return reviewNameIndex.getAny(toFoldedWords(nameKeywords));
+    }
+
+    /**
+     * Returns the reviews with ratings from {@code min} to {@code max}, inclusive.
+     * The reviews are looked up in an index of their ratings, so this does not scan the review list.
+     *
+     * @param min Lowest rating of the reviews.
+     * @param max Highest rating of the reviews.
+     */
+    public Set<Review> getReviewsWithRatingBetween(int min, int max) {
+        List<Integer> ratings = new ArrayList<>();
+        for (int rating = Math.max(min, Rating.MIN_RATING); rating <= Math.min(max, Rating.MAX_RATING); rating++) {
+            ratings.add(rating);
+        }
+        return reviewRatingIndex.getAny(ratings);
+    }
+
+    /**
+     * Returns the reviews dated from {@code from} to {@code to}, inclusive, earliest first.
+     * The reviews are looked up in an index sorted by their dates, so this does not scan the review list.
+     *
+     * @param from First date of the reviews, which may be {@code LocalDate.MIN}.
+     * @param to Last date of the reviews, which may be {@code LocalDate.MAX}.
+     */
+    public List<Review> getReviewsBetween(LocalDate from, LocalDate to) {
+        return reviewDateIndex.getBetween(from, to);
+    }
+
+    /**
+     * Returns at most {@code limit} reviews whose contents contain any word of {@code query}, most relevant first.
+     * The reviews are looked up in an index of the words of their contents, so this does not scan the review list.
+     *
+     * @param query Text whose words are to be searched for.
+     * @param limit Maximum number of reviews to return, which must be positive.
+     * @see ReviewContentIndex#search(String, int)
+     */
+    public List<Review> searchReviewContents(String query, int limit) {
+        return reviewContentIndex.search(query, limit);
+    }
+
     /**
      * Sorts the review list by {@code comparator}.
      *
@@ -259,6 +523,19 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// util methods
 
+    /**
+     * Returns a number that increases every time stalls or reviews are added, edited or removed.
+     * Sorting does not change the number, as it does not change the data.
+     */
+    public long getModificationVersion() {
+        return modificationVersion;
+    }
+
+    @Override
+    public Optional<AddressBookChange> getLastChange() {
+        return Optional.ofNullable(lastChange);
+    }
+
     @Override
     public String toString() {
         return stalls.asUnmodifiableObservableList().size() + " stalls, "
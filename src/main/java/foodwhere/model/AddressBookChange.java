@@ -0,0 +1,96 @@
+package foodwhere.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import foodwhere.model.stall.Stall;
+
+/**
+ * Represents a single change to the stalls of an address book, linked to the change made before it.
+ * A change either replaces one stall, which covers adding, editing and removing stalls and their reviews,
+ * or resets the whole stall list, which covers replacing the data and reordering the stalls.
+ * Only the most recent changes are linked, so following {@link #getPrevious()} eventually ends even if more
+ * changes were made.
+ * Guarantees: immutable.
+ */
+public final class AddressBookChange {
+
+    /** Maximum number of changes linked to each other, after which a change starts a new chain. */
+    static final int MAX_LINKED_CHANGES = 1024;
+
+    private final Stall oldStall;
+    private final Stall newStall;
+    private final List<Stall> stalls;
+    private final AddressBookChange previous;
+    private final int linkedCount;
+
+    private AddressBookChange(Stall oldStall, Stall newStall, List<Stall> stalls, AddressBookChange previous) {
+        this.oldStall = oldStall;
+        this.newStall = newStall;
+        this.stalls = stalls;
+        this.previous = previous != null && previous.linkedCount < MAX_LINKED_CHANGES ? previous : null;
+        this.linkedCount = this.previous == null ? 1 : this.previous.linkedCount + 1;
+    }
+
+    /**
+     * Returns a change replacing {@code oldStall} with {@code newStall}, made after {@code previous}.
+     * {@code oldStall} is null if a stall is added, and {@code newStall} is null if a stall is removed.
+     *
+     * @param previous The change made before this one, or null if there is none.
+     */
+    static AddressBookChange ofStall(Stall oldStall, Stall newStall, AddressBookChange previous) {
+        assert oldStall != null || newStall != null;
+        return new AddressBookChange(oldStall, newStall, null, previous);
+    }
+
+    /**
+     * Returns a change resetting the stall list to {@code stalls}, made after {@code previous}.
+     *
+     * @param stalls The stalls after the change, in order. The list is copied.
+     * @param previous The change made before this one, or null if there is none.
+     */
+    static AddressBookChange ofReset(List<Stall> stalls, AddressBookChange previous) {
+        requireNonNull(stalls);
+        return new AddressBookChange(null, null, List.copyOf(stalls), previous);
+    }
+
+    /**
+     * Returns true if this change resets the whole stall list.
+     */
+    public boolean isReset() {
+        return stalls != null;
+    }
+
+    /**
+     * Returns the stall replaced by this change, or {@code Optional.empty()} if a stall is added or the stall list
+     * is reset.
+     */
+    public Optional<Stall> getOldStall() {
+        return Optional.ofNullable(oldStall);
+    }
+
+    /**
+     * Returns the stall that replaces the old stall, or {@code Optional.empty()} if a stall is removed or the stall
+     * list is reset.
+     */
+    public Optional<Stall> getNewStall() {
+        return Optional.ofNullable(newStall);
+    }
+
+    /**
+     * Returns the stalls after a reset, in order, or {@code Optional.empty()} if this change replaces one stall.
+     */
+    public Optional<List<Stall>> getStalls() {
+        return Optional.ofNullable(stalls);
+    }
+
+    /**
+     * Returns the change made before this one, or {@code Optional.empty()} if there is none or it is no longer
+     * linked.
+     */
+    public Optional<AddressBookChange> getPrevious() {
+        return Optional.ofNullable(previous);
+    }
+}
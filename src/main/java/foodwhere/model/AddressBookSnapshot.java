@@ -0,0 +1,56 @@
+package foodwhere.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import foodwhere.model.review.Review;
+import foodwhere.model.stall.Stall;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * An immutable copy of the stalls and reviews of an address book at one point in time.
+ * Stalls and reviews are immutable, so only the lists holding them are copied.
+ * Later changes to the source address book do not affect the snapshot, so it can be read from any thread.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Stall> stalls;
+    private final ObservableList<Review> reviews;
+    private final Optional<AddressBookChange> lastChange;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     *
+     * @param source Address book to copy.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        stalls = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getStallList()));
+        reviews = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getReviewList()));
+        lastChange = source.getLastChange();
+    }
+
+    @Override
+    public ObservableList<Stall> getStallList() {
+        return stalls;
+    }
+
+    @Override
+    public ObservableList<Review> getReviewList() {
+        return reviews;
+    }
+
+    @Override
+    public Optional<AddressBookChange> getLastChange() {
+        return lastChange;
+    }
+
+    @Override
+    public String toString() {
+        return stalls.size() + " stalls, " + reviews.size() + " reviews";
+    }
+}
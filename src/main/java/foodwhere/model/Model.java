@@ -1,12 +1,20 @@
 package foodwhere.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import foodwhere.commons.core.GuiSettings;
+import foodwhere.model.commons.Name;
+import foodwhere.model.commons.Tag;
 import foodwhere.model.review.Review;
 import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallIdentity;
 import javafx.collections.ObservableList;
 
 /**
@@ -57,6 +65,12 @@ public interface Model {
     /** Returns the AddressBook in FoodWhere. */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the modification version of the AddressBook in FoodWhere.
+     * The version increases whenever the data is changed, so equal versions mean the data is unchanged.
+     */
+    long getModificationVersion();
+
     /**
      * Returns true if a stall with the same identity as {@code stall} exists in the address book.
      */
@@ -86,6 +100,17 @@ public interface Model {
      */
     void sortStalls(Comparator<Stall> comparator);
 
+    /**
+     * Returns the identities of the stalls in the address book in FoodWhere having any of {@code tags}.
+     */
+    Set<StallIdentity> getStallsWithAnyTag(Collection<Tag> tags);
+
+    /**
+     * Returns the identities of the stalls in the address book in FoodWhere whose names contain any of
+     * {@code nameKeywords} as a word, ignoring case.
+     */
+    Set<StallIdentity> getStallsWithAnyNameWord(Collection<Name> nameKeywords);
+
     /**
      * Returns true if a review with the same identity as {@code review} exists in the address book in FoodWhere.
      */
@@ -121,6 +146,40 @@ public interface Model {
      */
     void sortReviews(Comparator<Review> comparator);
 
+    /**
+     * Returns the reviews in the address book in FoodWhere having any of {@code tags}.
+     */
+    Set<Review> getReviewsWithAnyTag(Collection<Tag> tags);
+
+    /**
+     * Returns the reviews in the address book in FoodWhere whose names contain any of {@code nameKeywords} as a word,
+     * ignoring case.
+     */
+    Set<Review> getReviewsWithAnyNameWord(Collection<Name> nameKeywords);
+
+    /**
+     * Returns the reviews in the address book in FoodWhere with ratings from {@code min} to {@code max}, inclusive.
+     */
+    Set<Review> getReviewsWithRatingBetween(int min, int max);
+
+    /**
+     * Returns the reviews in the address book in FoodWhere dated from {@code from} to {@code to}, inclusive,
+     * earliest first.
+     */
+    List<Review> getReviewsBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns at most {@code limit} stalls in the address book in FoodWhere with at least {@code minReviews}
+     * reviews, and with {@code tag} if it is present, highest average rating first.
+     */
+    List<Stall> getTopRatedStalls(int limit, int minReviews, Optional<Tag> tag);
+
+    /**
+     * Returns at most {@code limit} reviews in the address book in FoodWhere whose contents contain any word of
+     * {@code query}, most relevant first.
+     */
+    List<Review> searchReviewContents(String query, int limit);
+
     /** Returns an unmodifiable view of the filtered stall list */
     ObservableList<Stall> getFilteredStallList();
 
@@ -133,11 +192,26 @@ public interface Model {
      */
     void updateFilteredStallList(Predicate<Stall> predicate);
 
+    /**
+     * Updates the filter of the filtered stall list to filter by the given {@code predicate},
+     * and shows the filtered stall list ordered by {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredStallList(Predicate<Stall> predicate, Comparator<Stall> comparator);
+
 
     /**
      * Updates the filter of the filtered review list to filter by the given {@code predicate}.
+     * The filtered review list is shown in the order of the review list.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredReviewList(Predicate<Review> predicate);
 
+    /**
+     * Updates the filter of the filtered review list to filter by the given {@code predicate},
+     * and shows the filtered review list ordered by {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredReviewList(Predicate<Review> predicate, Comparator<Review> comparator);
+
 }
@@ -4,16 +4,25 @@ import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import foodwhere.commons.core.GuiSettings;
 import foodwhere.commons.core.LogsCenter;
+import foodwhere.model.commons.Name;
+import foodwhere.model.commons.Tag;
 import foodwhere.model.review.Review;
 import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallIdentity;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 /**
  * Represents the in-memory model of the address book data in FoodWhere.
@@ -24,7 +33,9 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Stall> filteredStalls;
+    private final SortedList<Stall> orderedFilteredStalls;
     private final FilteredList<Review> filteredReviews;
+    private final SortedList<Review> orderedFilteredReviews;
 
     /**
      * Initializes a ModelManager with the given addressBook in FoodWhere and userPrefs.
@@ -37,7 +48,9 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStalls = new FilteredList<>(this.addressBook.getStallList());
+        orderedFilteredStalls = new SortedList<>(filteredStalls);
         filteredReviews = new FilteredList<>(this.addressBook.getReviewList());
+        orderedFilteredReviews = new SortedList<>(filteredReviews);
     }
 
     public ModelManager() {
@@ -84,6 +97,8 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        updateFilteredStallList(PREDICATE_SHOW_ALL_STALLS);
+        updateFilteredReviewList(PREDICATE_SHOW_ALL_REVIEWS);
     }
 
     @Override
@@ -91,6 +106,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getModificationVersion() {
+        return addressBook.getModificationVersion();
+    }
+
     @Override
     public boolean hasStall(Stall stall) {
         requireNonNull(stall);
@@ -113,11 +133,26 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedStall);
 
         addressBook.setStall(target, editedStall);
+        // filters looked up in the indexes do not know the edited stall or the reviews rebuilt for it
+        updateFilteredStallList(PREDICATE_SHOW_ALL_STALLS);
+        updateFilteredReviewList(PREDICATE_SHOW_ALL_REVIEWS);
     }
 
     @Override
     public void sortStalls(Comparator<Stall> comparator) {
         addressBook.sortStalls(comparator);
+        // show the filtered stalls in the new order of the stall list
+        orderedFilteredStalls.setComparator(null);
+    }
+
+    @Override
+    public Set<StallIdentity> getStallsWithAnyTag(Collection<Tag> tags) {
+        return addressBook.getStallsWithAnyTag(tags);
+    }
+
+    @Override
+    public Set<StallIdentity> getStallsWithAnyNameWord(Collection<Name> nameKeywords) {
+        return addressBook.getStallsWithAnyNameWord(nameKeywords);
     }
 
     @Override
@@ -129,6 +164,8 @@ public class ModelManager implements Model {
     @Override
     public void deleteReview(Review target) {
         addressBook.removeReview(target);
+        // the stall of the review is rebuilt without it, and may no longer match a filter looked up by its reviews
+        updateFilteredStallList(PREDICATE_SHOW_ALL_STALLS);
     }
 
     @Override
@@ -150,11 +187,46 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedStall);
 
         addressBook.setReview(target, editedStall);
+        // filters looked up in the indexes do not know the edited review or the stall rebuilt for it
+        updateFilteredReviewList(PREDICATE_SHOW_ALL_REVIEWS);
+        updateFilteredStallList(PREDICATE_SHOW_ALL_STALLS);
     }
 
     @Override
     public void sortReviews(Comparator<Review> comparator) {
         addressBook.sortReviews(comparator);
+        // show the filtered reviews in the new order of the review list
+        orderedFilteredReviews.setComparator(null);
+    }
+
+    @Override
+    public Set<Review> getReviewsWithAnyTag(Collection<Tag> tags) {
+        return addressBook.getReviewsWithAnyTag(tags);
+    }
+
+    @Override
+    public Set<Review> getReviewsWithAnyNameWord(Collection<Name> nameKeywords) {
+        return addressBook.getReviewsWithAnyNameWord(nameKeywords);
+    }
+
+    @Override
+    public Set<Review> getReviewsWithRatingBetween(int min, int max) {
+        return addressBook.getReviewsWithRatingBetween(min, max);
+    }
+
+    @Override
+    public List<Review> getReviewsBetween(LocalDate from, LocalDate to) {
+        return addressBook.getReviewsBetween(from, to);
+    }
+
+    @Override
+    public List<Stall> getTopRatedStalls(int limit, int minReviews, Optional<Tag> tag) {
+        return addressBook.getTopRatedStalls(limit, minReviews, tag);
+    }
+
+    @Override
+    public List<Review> searchReviewContents(String query, int limit) {
+        return addressBook.searchReviewContents(query, limit);
     }
 
     //=========== Filtered Stall List Accessors =============================================================
@@ -165,13 +237,21 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Stall> getFilteredStallList() {
-        return filteredStalls;
+        return orderedFilteredStalls;
     }
 
     @Override
     public void updateFilteredStallList(Predicate<Stall> predicate) {
         requireNonNull(predicate);
         filteredStalls.setPredicate(predicate);
+        orderedFilteredStalls.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredStallList(Predicate<Stall> predicate, Comparator<Stall> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredStalls.setPredicate(predicate);
+        orderedFilteredStalls.setComparator(comparator);
     }
 
     //=========== Filtered Review List Accessors =============================================================
@@ -182,13 +262,21 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Review> getFilteredReviewList() {
-        return filteredReviews;
+        return orderedFilteredReviews;
     }
 
     @Override
     public void updateFilteredReviewList(Predicate<Review> predicate) {
         requireNonNull(predicate);
         filteredReviews.setPredicate(predicate);
+        orderedFilteredReviews.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredReviewList(Predicate<Review> predicate, Comparator<Review> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredReviews.setPredicate(predicate);
+        orderedFilteredReviews.setComparator(comparator);
     }
 
     @Override
@@ -1,5 +1,7 @@
 package foodwhere.model;
 
+import java.util.Optional;
+
 import foodwhere.model.review.Review;
 import foodwhere.model.stall.Stall;
 import javafx.collections.ObservableList;
@@ -16,4 +18,10 @@ public interface ReadOnlyAddressBook {
     ObservableList<Stall> getStallList();
 
     ObservableList<Review> getReviewList();
+
+    /**
+     * Returns the most recent change to the stalls, through which the earlier changes can be followed,
+     * or {@code Optional.empty()} if no changes have been recorded.
+     */
+    Optional<AddressBookChange> getLastChange();
 }
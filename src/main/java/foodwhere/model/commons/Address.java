@@ -3,6 +3,10 @@ package foodwhere.model.commons;
 import static foodwhere.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import foodwhere.commons.util.StringUtil;
+import foodwhere.commons.util.ValidationUtil;
+import foodwhere.model.util.Interner;
+
 /**
  * Represents a Stall's address in FoodWhere.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}.
@@ -17,6 +21,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Address> POOL = new Interner<>(address -> address.value);
+
     public final String value;
 
     /**
@@ -30,11 +36,22 @@ public class Address {
         value = address;
     }
 
+    /**
+     * Returns the {@code Address} of {@code address}, which is shared with every other address of the same string
+     * obtained from this method.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        requireNonNull(address);
+        return POOL.intern(address, Address::new);
+    }
+
     /**
      * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
     @Override
@@ -51,7 +68,8 @@ public class Address {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // consistent with the case-insensitive equals
+        return StringUtil.foldCase(value).hashCode();
     }
 
 }
@@ -3,6 +3,14 @@ package foodwhere.model.commons;
 import static foodwhere.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import foodwhere.commons.util.StringUtil;
+import foodwhere.commons.util.ValidationUtil;
+import foodwhere.model.util.Interner;
+
 
 /**
  * Represents a Stall's name in FoodWhere.
@@ -19,7 +27,11 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Name> POOL = new Interner<>(name -> name.fullName);
+
     public final String fullName;
+    private final String foldedName;
+    private final List<String> foldedWords;
 
     /**
      * Constructs a {@code Name}.
@@ -30,15 +42,55 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        foldedName = StringUtil.foldCase(name);
+        foldedWords = Collections.unmodifiableList(Arrays.asList(foldedName.split("\\s+")));
+    }
+
+    /**
+     * Returns the {@code Name} of {@code name}, which is shared with every other name of the same string obtained
+     * from this method.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        requireNonNull(name);
+        return POOL.intern(name, Name::new);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
+    }
+
+    /**
+     * Compares this name with {@code other} lexicographically, ignoring case, in the same order as
+     * {@link String#compareToIgnoreCase(String)} on the full names.
+     * The names are case-folded by {@link StringUtil#foldCase(String)} once when they are constructed, so sorting
+     * does not fold them again at every comparison.
+     */
+    public int compareToIgnoreCase(Name other) {
+        return foldedName.compareTo(other.foldedName);
     }
 
+    /**
+     * Returns the words of this name, case-folded by {@link StringUtil#foldCase(String)}.
+     * The words are split once when the name is constructed.
+     */
+    public List<String> getFoldedWords() {
+        return foldedWords;
+    }
+
+    /**
+     * Returns true if this name contains {@code word}, with the same semantics as
+     * {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     *
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public boolean containsWord(String word) {
+        return foldedWords.contains(StringUtil.foldWord(word));
+    }
 
     @Override
     public String toString() {
@@ -54,7 +106,8 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // consistent with the case-insensitive equals
+        return foldedName.hashCode();
     }
 
 }
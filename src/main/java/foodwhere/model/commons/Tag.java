@@ -3,6 +3,7 @@ package foodwhere.model.commons;
 import static foodwhere.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import foodwhere.commons.util.ValidationUtil;
 
 /**
  * Represents a Tag in FoodWhere.
@@ -14,6 +15,7 @@ public class Tag {
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
     public final String tag;
+    private final int id;
 
     /**
      * Constructs a {@code Tag}.
@@ -24,20 +26,40 @@ public class Tag {
         requireNonNull(tag);
         checkArgument(isValidTag(tag), MESSAGE_CONSTRAINTS);
         this.tag = tag.toLowerCase();
+        this.id = TagDictionary.getId(this.tag);
+    }
+
+    /**
+     * Returns the {@code Tag} of {@code tag}, which is shared with every other equal tag obtained from this method.
+     * The shared tags are kept by the {@link TagDictionary}.
+     *
+     * @param tag A valid tag.
+     */
+    public static Tag of(String tag) {
+        requireNonNull(tag);
+        checkArgument(isValidTag(tag), MESSAGE_CONSTRAINTS);
+        return TagDictionary.getTag(TagDictionary.getId(tag.toLowerCase()));
+    }
+
+    /**
+     * Returns the id of this tag in the {@link TagDictionary}.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
      * Returns true if a given string is a valid tag.
      */
     public static boolean isValidTag(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Tag // instanceof handles nulls
-                && tag.equals(((Tag) other).tag)); // state check
+                && id == ((Tag) other).id); // state check, as equal tags have the same id
     }
 
     @Override
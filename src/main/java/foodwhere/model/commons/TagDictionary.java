@@ -0,0 +1,61 @@
+package foodwhere.model.commons;
+
+import static foodwhere.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns each distinct tag a small integer id, so that sets of tags can be stored as bitsets of ids.
+ * Ids are assigned in the order tags are first seen, starting from 0, and never change. There are few distinct
+ * tags, so every tag that is seen is kept for as long as the application runs.
+ */
+public final class TagDictionary {
+
+    private static final Map<String, Integer> ids = new HashMap<>();
+    private static final List<String> names = new ArrayList<>();
+    /** Canonical {@code Tag} of each id, created when it is first needed. */
+    private static final List<Tag> tags = new ArrayList<>();
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the id of the tag named {@code tagName}, assigning the next id if the tag has not been seen before.
+     *
+     * @param tagName Name of a tag, in the lower case form kept by {@link Tag#tag}.
+     */
+    public static synchronized int getId(String tagName) {
+        requireNonNull(tagName);
+        Integer id = ids.get(tagName);
+        if (id == null) {
+            id = names.size();
+            ids.put(tagName, id);
+            names.add(tagName);
+            tags.add(null);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the canonical {@code Tag} with {@code id}, which must have been assigned.
+     */
+    public static synchronized Tag getTag(int id) {
+        checkArgument(id >= 0 && id < names.size(), "Tag id has not been assigned");
+        Tag tag = tags.get(id);
+        if (tag == null) {
+            tag = new Tag(names.get(id));
+            tags.set(id, tag);
+        }
+        return tag;
+    }
+
+    /**
+     * Returns the number of ids assigned, which is one more than the largest id.
+     */
+    public static synchronized int size() {
+        return names.size();
+    }
+}
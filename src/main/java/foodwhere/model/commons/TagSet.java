@@ -0,0 +1,210 @@
+package foodwhere.model.commons;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, stored as a bitset of their ids in the {@link TagDictionary}.
+ * A set of a few tags takes a single {@code long}, and membership and set operations between {@code TagSet}s are
+ * bitwise operations that neither hash nor compare {@code Tag} objects.
+ * Modifying the set through the {@code Set} interface throws {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new long[0]);
+
+    /** Bit {@code id % 64} of word {@code id / 64} is set if the tag with that id is in the set. No trailing zeros. */
+    private final long[] words;
+    private final int size;
+    private final int hashCode;
+
+    private TagSet(long[] words) {
+        this.words = words;
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        this.size = size;
+        this.hashCode = computeHashCode();
+    }
+
+    /**
+     * Returns the empty set.
+     */
+    public static TagSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a set of {@code tags}, or {@code tags} itself if it is already a {@code TagSet}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        long[] words = new long[0];
+        for (Tag tag : tags) {
+            int id = tag.getId();
+            if (id / Long.SIZE >= words.length) {
+                words = Arrays.copyOf(words, id / Long.SIZE + 1);
+            }
+            words[id / Long.SIZE] |= 1L << id;
+        }
+        return new TagSet(words);
+    }
+
+    /**
+     * Returns true if this set contains the tag with {@code id}.
+     */
+    public boolean containsId(int id) {
+        return id >= 0 && id / Long.SIZE < words.length && (words[id / Long.SIZE] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns true if this set and {@code other} have a tag in common.
+     */
+    public boolean intersects(TagSet other) {
+        requireNonNull(other);
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Passes the id of each tag in this set to {@code action}, in increasing order of ids.
+     */
+    public void forEachId(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept(i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag && containsId(((Tag) o).getId());
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        if (!(c instanceof TagSet)) {
+            return super.containsAll(c);
+        }
+        long[] otherWords = ((TagSet) c).words;
+        if (otherWords.length > words.length) {
+            return false;
+        }
+        for (int i = 0; i < otherWords.length; i++) {
+            if ((words[i] & otherWords[i]) != otherWords[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean add(Tag e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<Tag>() {
+            private int wordIndex = 0;
+            private long word = words.length == 0 ? 0 : words[0];
+
+            @Override
+            public boolean hasNext() {
+                while (word == 0 && wordIndex + 1 < words.length) {
+                    word = words[++wordIndex];
+                }
+                return word != 0;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int id = wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                return TagDictionary.getTag(id);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            return Arrays.equals(words, ((TagSet) other).words);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    private int computeHashCode() {
+        int hashCode = 0;
+        for (Tag tag : this) {
+            hashCode += tag.hashCode();
+        }
+        return hashCode;
+    }
+}
@@ -0,0 +1,66 @@
+package foodwhere.model.query;
+
+import static foodwhere.commons.util.AppUtil.checkArgument;
+import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a query matching the items matched by all, or by any, of its operands.
+ */
+public class CompoundQuery extends Query {
+
+    /**
+     * Represents the ways of combining the operands of a {@code CompoundQuery}.
+     */
+    public enum Operator {
+        AND, OR
+    }
+
+    private final Operator operator;
+    private final List<Query> operands;
+
+    /**
+     * Constructs a {@code CompoundQuery}.
+     *
+     * @param operator How the operands are combined.
+     * @param operands Nonempty list of queries to combine.
+     */
+    public CompoundQuery(Operator operator, List<Query> operands) {
+        requireAllNonNull(operator, operands);
+        checkArgument(!operands.isEmpty(), "A compound query should have operands");
+        this.operator = operator;
+        this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+    }
+
+    @Override
+    public <T, K> QueryPlan<T, K> plan(QueryIndex<T, K> index) {
+        List<QueryPlan<T, K>> plans = new ArrayList<>();
+        for (Query operand : operands) {
+            plans.add(operand.plan(index));
+        }
+        return operator == Operator.AND ? QueryPlan.and(index, plans) : QueryPlan.or(index, plans);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CompoundQuery // instanceof handles nulls
+                && operator == ((CompoundQuery) other).operator
+                && operands.equals(((CompoundQuery) other).operands)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * operator.hashCode() + operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Query::toString)
+                .collect(Collectors.joining(" " + operator + " ", "(", ")"));
+    }
+}
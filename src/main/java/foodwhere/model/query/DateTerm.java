@@ -0,0 +1,72 @@
+package foodwhere.model.query;
+
+import static foodwhere.commons.util.AppUtil.checkArgument;
+import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+
+import foodwhere.model.review.Date;
+import foodwhere.model.review.Review;
+import foodwhere.model.stall.Stall;
+
+/**
+ * Matches the reviews dated in an inclusive range, and the stalls having such a review.
+ */
+public class DateTerm extends QueryTerm {
+
+    public static final String MESSAGE_CONSTRAINTS = "The first date of a range should not be after the last";
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Constructs a {@code DateTerm}.
+     *
+     * @param from First date matched, or {@code LocalDate.MIN} if there is no first date.
+     * @param to Last date matched, or {@code LocalDate.MAX} if there is no last date.
+     */
+    public DateTerm(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        checkArgument(!from.isAfter(to), MESSAGE_CONSTRAINTS);
+        this.from = from;
+        this.to = to;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    @Override
+    public boolean test(Review review) {
+        LocalDate date = review.getDate().date;
+        return !date.isBefore(from) && !date.isAfter(to);
+    }
+
+    @Override
+    public boolean test(Stall stall) {
+        return stall.getReviews().stream().anyMatch(this::test);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DateTerm // instanceof handles nulls
+                && from.equals(((DateTerm) other).from)
+                && to.equals(((DateTerm) other).to)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * from.hashCode() + to.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "d/" + (from.equals(LocalDate.MIN) ? "" : from.format(Date.OUTPUT_DATE_FORMAT))
+                + ".." + (to.equals(LocalDate.MAX) ? "" : to.format(Date.OUTPUT_DATE_FORMAT));
+    }
+}
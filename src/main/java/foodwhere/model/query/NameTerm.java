@@ -0,0 +1,56 @@
+package foodwhere.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import foodwhere.model.commons.Name;
+import foodwhere.model.review.Review;
+import foodwhere.model.stall.Stall;
+
+/**
+ * Matches the stalls and reviews whose names contain a word, ignoring case.
+ */
+public class NameTerm extends QueryTerm {
+
+    private final Name keyword;
+
+    /**
+     * Constructs a {@code NameTerm}.
+     *
+     * @param keyword Single word to be found in names.
+     */
+    public NameTerm(Name keyword) {
+        requireNonNull(keyword);
+        this.keyword = keyword;
+    }
+
+    public Name getKeyword() {
+        return keyword;
+    }
+
+    @Override
+    public boolean test(Review review) {
+        return review.getName().containsWord(keyword.fullName);
+    }
+
+    @Override
+    public boolean test(Stall stall) {
+        return stall.getName().containsWord(keyword.fullName);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameTerm // instanceof handles nulls
+                && keyword.equals(((NameTerm) other).keyword)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "n/" + keyword;
+    }
+}
@@ -0,0 +1,43 @@
+package foodwhere.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a query matching the items not matched by its operand.
+ */
+public class NotQuery extends Query {
+
+    private final Query operand;
+
+    /**
+     * Constructs a {@code NotQuery}.
+     *
+     * @param operand Query whose matches are excluded.
+     */
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    @Override
+    public <T, K> QueryPlan<T, K> plan(QueryIndex<T, K> index) {
+        return QueryPlan.not(index, operand.plan(index));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotQuery // instanceof handles nulls
+                && operand.equals(((NotQuery) other).operand)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return ~operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + operand;
+    }
+}
@@ -0,0 +1,14 @@
+package foodwhere.model.query;
+
+/**
+ * Represents a filter over stalls or reviews, built from {@code QueryTerm}s combined with AND, OR and NOT.
+ * A query is not evaluated directly, but compiled into a {@code QueryPlan} against the indexes of the items
+ * it filters.
+ */
+public abstract class Query {
+
+    /**
+     * Compiles this query into a plan over the items and indexes given by {@code index}.
+     */
+    public abstract <T, K> QueryPlan<T, K> plan(QueryIndex<T, K> index);
+}
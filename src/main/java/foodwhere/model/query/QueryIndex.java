@@ -0,0 +1,29 @@
+package foodwhere.model.query;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Gives a {@code Query} access to the items it filters, and to the indexes over them.
+ *
+ * @param <T> Type of the items, such as {@code Review}.
+ * @param <K> Type of the keys identifying the items in the indexes.
+ */
+public interface QueryIndex<T, K> {
+
+    /**
+     * Returns the key identifying {@code item} in the indexes.
+     */
+    K getKey(T item);
+
+    /**
+     * Returns the keys of exactly the items matching {@code term}, if an index can answer it.
+     * Returns {@code Optional.empty()} if the term has to be tested on each item instead.
+     */
+    Optional<Set<K>> find(QueryTerm term);
+
+    /**
+     * Returns true if {@code item} matches {@code term}.
+     */
+    boolean test(T item, QueryTerm term);
+}
@@ -0,0 +1,143 @@
+package foodwhere.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Describes how to find the items matching a {@code Query}: the keys of the candidate items found in indexes,
+ * and a residual predicate which the candidates must also satisfy.
+ * Plans of subqueries are combined so that index lookups narrow down the candidates first,
+ * and residual predicates are only tested on the remaining candidates.
+ *
+ * @param <T> Type of the items.
+ * @param <K> Type of the keys identifying the items in the indexes.
+ */
+public class QueryPlan<T, K> {
+
+    private final QueryIndex<T, K> index;
+    /** Keys of the candidate items, or null if every item is a candidate. */
+    private final Set<K> candidates;
+    /** Predicate the candidates must satisfy, or null if every candidate matches. */
+    private final Predicate<T> residual;
+
+    private QueryPlan(QueryIndex<T, K> index, Set<K> candidates, Predicate<T> residual) {
+        this.index = index;
+        this.candidates = candidates;
+        this.residual = residual;
+    }
+
+    /**
+     * Returns a plan matching exactly the items with keys in {@code matches}.
+     */
+    public static <T, K> QueryPlan<T, K> ofMatches(QueryIndex<T, K> index, Set<K> matches) {
+        requireNonNull(index);
+        requireNonNull(matches);
+        return new QueryPlan<>(index, matches, null);
+    }
+
+    /**
+     * Returns a plan matching the items satisfying {@code predicate}, which has to be tested on every item.
+     */
+    public static <T, K> QueryPlan<T, K> ofPredicate(QueryIndex<T, K> index, Predicate<T> predicate) {
+        requireNonNull(index);
+        requireNonNull(predicate);
+        return new QueryPlan<>(index, null, predicate);
+    }
+
+    /**
+     * Returns a plan matching the items matched by all of {@code plans}.
+     * The candidate sets are intersected, smallest first, and the residual predicates are combined.
+     */
+    public static <T, K> QueryPlan<T, K> and(QueryIndex<T, K> index, List<QueryPlan<T, K>> plans) {
+        List<Set<K>> candidateSets = new ArrayList<>();
+        Predicate<T> residual = null;
+        for (QueryPlan<T, K> plan : plans) {
+            if (plan.candidates != null) {
+                candidateSets.add(plan.candidates);
+            }
+            if (plan.residual != null) {
+                residual = residual == null ? plan.residual : residual.and(plan.residual);
+            }
+        }
+
+        Set<K> candidates = null;
+        if (!candidateSets.isEmpty()) {
+            candidateSets.sort(Comparator.comparingInt(Set::size));
+            candidates = new HashSet<>(candidateSets.get(0));
+            for (int i = 1; i < candidateSets.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(candidateSets.get(i));
+            }
+        }
+        return new QueryPlan<>(index, candidates, residual);
+    }
+
+    /**
+     * Returns a plan matching the items matched by any of {@code plans}.
+     * If every plan has candidates, the result only has the union of their candidates as candidates.
+     */
+    public static <T, K> QueryPlan<T, K> or(QueryIndex<T, K> index, List<QueryPlan<T, K>> plans) {
+        boolean hasAllCandidates = plans.stream().allMatch(plan -> plan.candidates != null);
+        boolean isAllExact = plans.stream().allMatch(plan -> plan.residual == null);
+
+        Set<K> candidates = null;
+        if (hasAllCandidates) {
+            candidates = new HashSet<>();
+            for (QueryPlan<T, K> plan : plans) {
+                candidates.addAll(plan.candidates);
+            }
+        }
+
+        Predicate<T> residual = null;
+        if (!(hasAllCandidates && isAllExact)) {
+            List<Predicate<T>> predicates = new ArrayList<>();
+            for (QueryPlan<T, K> plan : plans) {
+                predicates.add(plan.toPredicate());
+            }
+            residual = item -> predicates.stream().anyMatch(predicate -> predicate.test(item));
+        }
+        return new QueryPlan<>(index, candidates, residual);
+    }
+
+    /**
+     * Returns a plan matching the items not matched by {@code plan}.
+     */
+    public static <T, K> QueryPlan<T, K> not(QueryIndex<T, K> index, QueryPlan<T, K> plan) {
+        return new QueryPlan<>(index, null, plan.toPredicate().negate());
+    }
+
+    /**
+     * Returns the keys of the candidate items, or {@code Optional.empty()} if every item is a candidate.
+     */
+    public Optional<Set<K>> getCandidates() {
+        return Optional.ofNullable(candidates);
+    }
+
+    /**
+     * Returns true if exactly the candidate items match, so that no predicate has to be tested.
+     */
+    public boolean isExact() {
+        return candidates != null && residual == null;
+    }
+
+    /**
+     * Returns a predicate testing whether an item matches this plan.
+     * Candidate membership is tested first, so the residual predicate is only tested on candidates.
+     * The candidates are looked up when the plan is made, so the predicate is only valid until the items change.
+     * The model shows all items again whenever items are added or replaced, so filtered lists do not keep it longer.
+     */
+    public Predicate<T> toPredicate() {
+        if (candidates == null) {
+            return residual == null ? unused -> true : residual;
+        }
+
+        Predicate<T> isCandidate = item -> candidates.contains(index.getKey(item));
+        return residual == null ? isCandidate : isCandidate.and(residual);
+    }
+}
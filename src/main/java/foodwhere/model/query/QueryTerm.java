@@ -0,0 +1,27 @@
+package foodwhere.model.query;
+
+import foodwhere.model.review.Review;
+import foodwhere.model.stall.Stall;
+
+/**
+ * Represents a condition on a single field of stalls or reviews, which may be answered by an index.
+ */
+public abstract class QueryTerm extends Query {
+
+    /**
+     * Returns true if {@code review} satisfies this term.
+     */
+    public abstract boolean test(Review review);
+
+    /**
+     * Returns true if {@code stall} satisfies this term.
+     */
+    public abstract boolean test(Stall stall);
+
+    @Override
+    public <T, K> QueryPlan<T, K> plan(QueryIndex<T, K> index) {
+        return index.find(this)
+                .map(matches -> QueryPlan.ofMatches(index, matches))
+                .orElseGet(() -> QueryPlan.ofPredicate(index, item -> index.test(item, this)));
+    }
+}
@@ -0,0 +1,67 @@
+package foodwhere.model.query;
+
+import static foodwhere.commons.util.AppUtil.checkArgument;
+
+import foodwhere.model.review.Rating;
+import foodwhere.model.review.Review;
+import foodwhere.model.stall.Stall;
+
+/**
+ * Matches the reviews with a rating in an inclusive range, and the stalls having such a review.
+ */
+public class RatingTerm extends QueryTerm {
+
+    public static final String MESSAGE_CONSTRAINTS = "The lowest rating of a range should not be above the highest";
+
+    private final int min;
+    private final int max;
+
+    /**
+     * Constructs a {@code RatingTerm}.
+     *
+     * @param min Lowest rating matched.
+     * @param max Highest rating matched, which must not be less than {@code min}.
+     */
+    public RatingTerm(int min, int max) {
+        checkArgument(min <= max, MESSAGE_CONSTRAINTS);
+        this.min = Math.max(min, Rating.MIN_RATING);
+        this.max = Math.min(max, Rating.MAX_RATING);
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    public boolean test(Review review) {
+        int rating = review.getRating().intValue();
+        return min <= rating && rating <= max;
+    }
+
+    @Override
+    public boolean test(Stall stall) {
+        return stall.getReviews().stream().anyMatch(this::test);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RatingTerm // instanceof handles nulls
+                && min == ((RatingTerm) other).min
+                && max == ((RatingTerm) other).max); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * min + max;
+    }
+
+    @Override
+    public String toString() {
+        return "r/" + min + ".." + max;
+    }
+}
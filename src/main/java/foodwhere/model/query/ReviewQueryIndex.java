@@ -0,0 +1,55 @@
+package foodwhere.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import foodwhere.model.Model;
+import foodwhere.model.review.Review;
+
+/**
+ * Gives queries over reviews access to the review indexes of a {@code Model}.
+ * All terms are answered by indexes.
+ */
+public class ReviewQueryIndex implements QueryIndex<Review, Review> {
+
+    private final Model model;
+
+    /**
+     * Constructs a {@code ReviewQueryIndex} over the reviews in {@code model}.
+     */
+    public ReviewQueryIndex(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    @Override
+    public Review getKey(Review review) {
+        return review;
+    }
+
+    @Override
+    public Optional<Set<Review>> find(QueryTerm term) {
+        if (term instanceof NameTerm) {
+            return Optional.of(model.getReviewsWithAnyNameWord(
+                    Collections.singleton(((NameTerm) term).getKeyword())));
+        } else if (term instanceof TagTerm) {
+            return Optional.of(model.getReviewsWithAnyTag(Collections.singleton(((TagTerm) term).getTag())));
+        } else if (term instanceof RatingTerm) {
+            RatingTerm ratingTerm = (RatingTerm) term;
+            return Optional.of(model.getReviewsWithRatingBetween(ratingTerm.getMin(), ratingTerm.getMax()));
+        } else if (term instanceof DateTerm) {
+            DateTerm dateTerm = (DateTerm) term;
+            return Optional.of(new HashSet<>(model.getReviewsBetween(dateTerm.getFrom(), dateTerm.getTo())));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean test(Review review, QueryTerm term) {
+        return term.test(review);
+    }
+}
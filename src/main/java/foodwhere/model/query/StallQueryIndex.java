@@ -0,0 +1,70 @@
+package foodwhere.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import foodwhere.model.Model;
+import foodwhere.model.review.Review;
+import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallIdentity;
+
+/**
+ * Gives queries over stalls access to the stall and review indexes of a {@code Model}.
+ * Name and tag terms are answered by the stall indexes. Rating and date terms are answered by the review
+ * indexes, as a stall matches if any of its reviews does.
+ */
+public class StallQueryIndex implements QueryIndex<Stall, StallIdentity> {
+
+    private final Model model;
+
+    /**
+     * Constructs a {@code StallQueryIndex} over the stalls in {@code model}.
+     */
+    public StallQueryIndex(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    @Override
+    public StallIdentity getKey(Stall stall) {
+        return stall.getIdentity();
+    }
+
+    @Override
+    public Optional<Set<StallIdentity>> find(QueryTerm term) {
+        if (term instanceof NameTerm) {
+            return Optional.of(model.getStallsWithAnyNameWord(
+                    Collections.singleton(((NameTerm) term).getKeyword())));
+        } else if (term instanceof TagTerm) {
+            return Optional.of(model.getStallsWithAnyTag(Collections.singleton(((TagTerm) term).getTag())));
+        } else if (term instanceof RatingTerm) {
+            RatingTerm ratingTerm = (RatingTerm) term;
+            return Optional.of(toStalls(model.getReviewsWithRatingBetween(ratingTerm.getMin(), ratingTerm.getMax())));
+        } else if (term instanceof DateTerm) {
+            DateTerm dateTerm = (DateTerm) term;
+            return Optional.of(toStalls(model.getReviewsBetween(dateTerm.getFrom(), dateTerm.getTo())));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean test(Stall stall, QueryTerm term) {
+        return term.test(stall);
+    }
+
+    /**
+     * Returns the identities of the stalls of {@code reviews}.
+     */
+    private static Set<StallIdentity> toStalls(Collection<Review> reviews) {
+        Set<StallIdentity> stalls = new HashSet<>();
+        for (Review review : reviews) {
+            stalls.add(new StallIdentity(review.getName(), review.getAddress()));
+        }
+        return stalls;
+    }
+}
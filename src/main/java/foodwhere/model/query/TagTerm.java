@@ -0,0 +1,56 @@
+package foodwhere.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import foodwhere.model.commons.Tag;
+import foodwhere.model.review.Review;
+import foodwhere.model.stall.Stall;
+
+/**
+ * Matches the stalls and reviews having a tag.
+ */
+public class TagTerm extends QueryTerm {
+
+    private final Tag tag;
+
+    /**
+     * Constructs a {@code TagTerm}.
+     *
+     * @param tag Tag to be matched.
+     */
+    public TagTerm(Tag tag) {
+        requireNonNull(tag);
+        this.tag = tag;
+    }
+
+    public Tag getTag() {
+        return tag;
+    }
+
+    @Override
+    public boolean test(Review review) {
+        return review.getTags().contains(tag);
+    }
+
+    @Override
+    public boolean test(Stall stall) {
+        return stall.getTags().contains(tag);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagTerm // instanceof handles nulls
+                && tag.equals(((TagTerm) other).tag)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return tag.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "t/" + tag.tag;
+    }
+}
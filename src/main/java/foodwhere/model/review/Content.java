@@ -3,6 +3,8 @@ package foodwhere.model.review;
 import static foodwhere.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import foodwhere.commons.util.ValidationUtil;
+
 /**
  * Represents a Review's content in FoodWhere.
  * Guarantees: immutable; is valid as declared in {@link #isValidContent(String)}.
@@ -34,7 +36,7 @@ public class Content {
      * Returns true if a given string is a valid content.
      */
     public static boolean isValidContent(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
     @Override
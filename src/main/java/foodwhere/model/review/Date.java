@@ -4,12 +4,10 @@ import static foodwhere.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
-import java.time.chrono.IsoChronology;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
-import java.time.temporal.ChronoField;
+import java.util.Optional;
+
+import foodwhere.commons.util.ValidationUtil;
 
 /**
  * Represents a Review's date in FoodWhere.
@@ -22,30 +20,14 @@ public class Date implements Comparable<Date> {
 
     public static final String VALIDATION_REGEX = "\\d{1,2}-\\d{1,2}-\\d{4}|\\d{1,2}/\\d{1,2}/\\d{4}";
 
-    //@@author clarence-chew-reused
-    //Reused from https://stackoverflow.com/a/30478777
-    // with minor modifications
-    public static final DateTimeFormatter SLASH_DATE_FORMAT = new DateTimeFormatterBuilder()
-            .appendPattern("d/M/yyyy")
-            .parseDefaulting(ChronoField.ERA, 1)
-            .toFormatter()
-            .withChronology(IsoChronology.INSTANCE)
-            .withResolverStyle(ResolverStyle.STRICT);
-    public static final DateTimeFormatter DASH_DATE_FORMAT = new DateTimeFormatterBuilder()
-            .appendPattern("d-M-yyyy")
-            .parseDefaulting(ChronoField.ERA, 1)
-            .toFormatter()
-            .withChronology(IsoChronology.INSTANCE)
-            .withResolverStyle(ResolverStyle.STRICT);
-    //@@author
     public static final DateTimeFormatter OUTPUT_DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-    public static final DateTimeFormatter[] PARSING_DATE_FORMATS =
-            new DateTimeFormatter[]{ SLASH_DATE_FORMAT, DASH_DATE_FORMAT };
 
     public final String value;
 
     public final LocalDate date;
 
+    private final long epochDay;
+
     /**
      * Constructs an {@code Date}.
      *
@@ -54,53 +36,33 @@ public class Date implements Comparable<Date> {
     public Date(String date) {
         requireNonNull(date);
         checkArgument(isValidFormat(date), MESSAGE_CONSTRAINTS);
-        checkArgument(isValidDate(date), VALID_DATE_CONSTRAINTS);
-        this.date = parseDate(date, PARSING_DATE_FORMATS);
+        Optional<LocalDate> parsedDate = ValidationUtil.parseDate(date);
+        checkArgument(parsedDate.isPresent(), VALID_DATE_CONSTRAINTS);
+        this.date = parsedDate.get();
         value = this.date.format(OUTPUT_DATE_FORMAT);
-    }
-
-    /**
-     * Parses a date with formats given until one works.
-     *
-     * @param date The string to be parsed.
-     * @param formats The formats to use to parse the string.
-     * @return Successfully parsed date.
-     * @throws IllegalArgumentException If the string cannot be parsed.
-     */
-    private static LocalDate parseDate(String date, DateTimeFormatter[] formats) {
-        for (DateTimeFormatter format : formats) {
-            try {
-                // does not return null
-                LocalDate result = LocalDate.parse(date, format);
-                return result;
-            } catch (DateTimeParseException ex) {
-                // fallthrough - try another parser
-            }
-        }
-        throw new IllegalArgumentException(VALID_DATE_CONSTRAINTS);
+        epochDay = this.date.toEpochDay();
     }
 
     /**
      * Returns true if a given string is in a valid format.
      */
     public static boolean isValidFormat(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDateFormat(test);
     }
 
     /**
      * Returns true if a given string is a valid date.
      */
     public static boolean isValidDate(String test) {
-        if (!isValidFormat(test)) {
-            return false;
-        }
-        try {
-            parseDate(test, PARSING_DATE_FORMATS);
-        } catch (IllegalArgumentException ex) {
-            // not a valid date
-            return false;
-        }
-        return true;
+        return ValidationUtil.parseDate(test).isPresent();
+    }
+
+    /**
+     * Returns the number of days from 01/01/1970 to this date, which is negative for earlier dates.
+     * It is computed once when the date is constructed, so that dates can be compared as numbers.
+     */
+    public long getEpochDay() {
+        return epochDay;
     }
 
     @Override
@@ -127,6 +89,6 @@ public class Date implements Comparable<Date> {
      */
     public int compareTo(Date other) {
         requireNonNull(other);
-        return date.compareTo(other.date);
+        return Long.compare(epochDay, other.epochDay);
     }
 }
@@ -3,6 +3,10 @@ package foodwhere.model.review;
 import static foodwhere.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.OptionalInt;
+
+import foodwhere.commons.util.ValidationUtil;
+
 /**
  * Represents a Review's rating in FoodWhere.
  * Guarantees: immutable; is valid as declared in {@link #isValidRating(String)}.
@@ -18,6 +22,8 @@ public class Rating {
 
     public final Integer value;
 
+    private final int intValue;
+
     /**
      * Constructs an {@code Rating}.
      *
@@ -25,9 +31,11 @@ public class Rating {
      */
     public Rating(String rating) {
         requireNonNull(rating);
-        checkArgument(isValidRating(rating), MESSAGE_CONSTRAINTS);
+        OptionalInt parsedRating = ValidationUtil.parseInt(rating, MIN_RATING, MAX_RATING);
+        checkArgument(parsedRating.isPresent(), MESSAGE_CONSTRAINTS);
 
-        value = Integer.valueOf(rating);
+        intValue = parsedRating.getAsInt();
+        value = intValue;
     }
 
     /**
@@ -37,14 +45,14 @@ public class Rating {
         if (test == null) {
             throw new NullPointerException("Rating is null");
         }
+        return ValidationUtil.parseInt(test, MIN_RATING, MAX_RATING).isPresent();
+    }
 
-        Integer value;
-        try {
-            value = Integer.valueOf(test);
-        } catch (NumberFormatException exception) {
-            return false;
-        }
-        return value >= MIN_RATING && value <= MAX_RATING;
+    /**
+     * Returns the value of this rating as an {@code int}, so that ratings can be compared without unboxing.
+     */
+    public int intValue() {
+        return intValue;
     }
 
     @Override
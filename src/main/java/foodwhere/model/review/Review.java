@@ -2,8 +2,6 @@ package foodwhere.model.review;
 
 import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -12,6 +10,7 @@ import java.util.stream.Stream;
 import foodwhere.model.commons.Address;
 import foodwhere.model.commons.Name;
 import foodwhere.model.commons.Tag;
+import foodwhere.model.commons.TagSet;
 
 /**
  * Represents a Review in FoodWhere.
@@ -28,7 +27,10 @@ public class Review {
     private final Date date;
     private final Content content;
     private final Rating rating;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    // Cached hash code, which is computed once as all fields are immutable
+    private final int hash;
 
     /**
      * Every field must be present and not null.
@@ -40,7 +42,8 @@ public class Review {
         this.date = date;
         this.content = content;
         this.rating = rating;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.hash = Objects.hash(name, address, date, content, rating, this.tags);
     }
 
     public Name getName() {
@@ -67,8 +70,8 @@ public class Review {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
@@ -104,7 +107,8 @@ public class Review {
         }
 
         Review otherReview = (Review) other;
-        return otherReview.getName().equals(getName())
+        return otherReview.hash == hash
+                && otherReview.getName().equals(getName())
                 && otherReview.getAddress().equals(getAddress())
                 && otherReview.getDate().equals(getDate())
                 && otherReview.getContent().equals(getContent())
@@ -114,8 +118,7 @@ public class Review {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, address, date, content, rating, tags);
+        return hash;
     }
 
     @Override
@@ -30,8 +30,8 @@ public class ReviewBuilder {
      * Creates a {@code ReviewBuilder} with the default details.
      */
     public ReviewBuilder() {
-        name = new Name(DEFAULT_NAME);
-        address = new Address(DEFAULT_ADDRESS);
+        name = Name.of(DEFAULT_NAME);
+        address = Address.of(DEFAULT_ADDRESS);
         date = new Date(DEFAULT_DATE);
         content = new Content(DEFAULT_CONTENT);
         rating = new Rating(DEFAULT_RATING);
@@ -54,7 +54,7 @@ public class ReviewBuilder {
      * Sets the {@code Name} of the {@code Review} that we are building.
      */
     public ReviewBuilder withName(String name) {
-        this.name = new Name(name);
+        this.name = Name.of(name);
         return this;
     }
 
@@ -62,7 +62,7 @@ public class ReviewBuilder {
      * Sets the {@code Address} of the {@code Review} that we are building.
      */
     public ReviewBuilder withAddress(String address) {
-        this.address = new Address(address);
+        this.address = Address.of(address);
         return this;
     }
 
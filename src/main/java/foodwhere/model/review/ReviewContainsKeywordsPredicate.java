@@ -1,5 +1,8 @@
 package foodwhere.model.review;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -38,6 +41,35 @@ public class ReviewContainsKeywordsPredicate implements Predicate<Review> {
         this.tagKeywords = new HashSet<Tag>(tagKeywords);
     }
 
+    /**
+     * Returns the name keywords of this predicate.
+     */
+    public Set<Name> getNameKeywords() {
+        return Collections.unmodifiableSet(nameKeywords);
+    }
+
+    /**
+     * Returns the tag keywords of this predicate.
+     */
+    public Set<Tag> getTagKeywords() {
+        return Collections.unmodifiableSet(tagKeywords);
+    }
+
+    /**
+     * Returns a predicate equivalent to this predicate, given all reviews it matches,
+     * such as the union of {@link foodwhere.model.Model#getReviewsWithAnyTag} for {@link #getTagKeywords()} and
+     * {@link foodwhere.model.Model#getReviewsWithAnyNameWord} for {@link #getNameKeywords()}.
+     * Reviews are then tested by set membership instead of comparing them with every keyword.
+     * The predicate is only equivalent until the reviews change, so the model shows all reviews again whenever a
+     * review is added or replaced.
+     *
+     * @param matchingReviews Reviews matching this predicate.
+     */
+    public Predicate<Review> withMatches(Set<Review> matchingReviews) {
+        requireNonNull(matchingReviews);
+        return matchingReviews::contains;
+    }
+
     @Override
     public boolean test(Review review) {
         for (Tag tag : review.getTags()) {
@@ -46,10 +78,13 @@ public class ReviewContainsKeywordsPredicate implements Predicate<Review> {
             }
         }
 
-        return nameKeywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(review.getName().fullName, keyword.fullName));
+        return matchesName(review);
     }
 
+    private boolean matchesName(Review review) {
+        Name name = review.getName();
+        return nameKeywords.stream().anyMatch(keyword -> name.containsWord(keyword.fullName));
+    }
 
     @Override
     public boolean equals(Object other) {
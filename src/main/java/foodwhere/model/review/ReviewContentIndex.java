@@ -0,0 +1,162 @@
+package foodwhere.model.review;
+
+import static foodwhere.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
+
+import foodwhere.commons.util.StringUtil;
+
+/**
+ * Indexes the words of the {@code Content} of reviews, and ranks reviews by their relevance to a query
+ * with the Okapi BM25 scoring function.
+ * The postings of a word only hold the reviews containing it, so a query only visits the reviews that contain at
+ * least one of its words.
+ */
+public class ReviewContentIndex {
+
+    private static final Pattern WORD_DELIMITER = Pattern.compile("[^\\p{Alnum}]+");
+
+    /** Term frequency saturation parameter of BM25. */
+    private static final double K1 = 1.2;
+    /** Content length normalization parameter of BM25. */
+    private static final double B = 0.75;
+
+    /** Orders reviews with equal scores, so that the ranking does not depend on hashing order. */
+    private static final Comparator<Review> TIE_BREAKER = Comparator.comparing(Review::getDate).reversed()
+            .thenComparing(review -> review.getName().fullName)
+            .thenComparing(review -> review.getContent().value);
+
+    /** Maps each word to the number of times it occurs in each review containing it. */
+    private final Map<String, Map<Review, Integer>> postings = new HashMap<>();
+    /** Maps each indexed review to the number of words in its content. */
+    private final Map<Review, Integer> lengths = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * Returns the case-folded words of {@code text}, in order and with repetitions.
+     * Words are maximal runs of alphanumeric characters, so punctuation does not affect matching.
+     */
+    public static List<String> toWords(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        for (String word : WORD_DELIMITER.split(text)) {
+            if (!word.isEmpty()) {
+                words.add(StringUtil.foldCase(word));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Adds {@code review} to the index. Does nothing if it is already indexed.
+     */
+    public void add(Review review) {
+        requireNonNull(review);
+        if (lengths.containsKey(review)) {
+            return;
+        }
+
+        List<String> words = toWords(review.getContent().value);
+        lengths.put(review, words.size());
+        totalLength += words.size();
+        for (String word : words) {
+            postings.computeIfAbsent(word, unused -> new HashMap<>()).merge(review, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes {@code review} from the index. Does nothing if it is not indexed.
+     */
+    public void remove(Review review) {
+        requireNonNull(review);
+        Integer length = lengths.remove(review);
+        if (length == null) {
+            return;
+        }
+
+        totalLength -= length;
+        for (String word : new HashSet<>(toWords(review.getContent().value))) {
+            Map<Review, Integer> reviews = postings.get(word);
+            reviews.remove(review);
+            if (reviews.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes all reviews from the index.
+     */
+    public void clear() {
+        postings.clear();
+        lengths.clear();
+        totalLength = 0;
+    }
+
+    /**
+     * Returns at most {@code limit} reviews containing any word of {@code query}, most relevant first.
+     * A review is more relevant if it contains more of the query words, more often, and if those words are rarer
+     * among all reviews. Matches in shorter reviews count more than in longer ones.
+     *
+     * @param query Text whose words are to be searched for.
+     * @param limit Maximum number of reviews to return, which must be positive.
+     */
+    public List<Review> search(String query, int limit) {
+        requireNonNull(query);
+        checkArgument(limit > 0, "Limit should be positive");
+
+        Map<Review, Double> scores = new HashMap<>();
+        double averageLength = lengths.isEmpty() ? 0 : (double) totalLength / lengths.size();
+        for (String word : toWords(query)) {
+            Map<Review, Integer> reviews = postings.get(word);
+            if (reviews == null) {
+                continue;
+            }
+
+            double documentFrequency = reviews.size();
+            double idf = Math.log(1 + (lengths.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            for (Map.Entry<Review, Integer> posting : reviews.entrySet()) {
+                double termFrequency = posting.getValue();
+                double lengthNorm = 1 - B + B * lengths.get(posting.getKey()) / averageLength;
+                double score = idf * termFrequency * (K1 + 1) / (termFrequency + K1 * lengthNorm);
+                scores.merge(posting.getKey(), score, Double::sum);
+            }
+        }
+
+        return getTopReviews(scores, limit);
+    }
+
+    /**
+     * Returns at most {@code limit} reviews with the highest scores, highest first.
+     * Only {@code limit} reviews are kept in a heap at any time, instead of sorting all scored reviews.
+     */
+    private static List<Review> getTopReviews(Map<Review, Double> scores, int limit) {
+        Comparator<Map.Entry<Review, Double>> ranking = Map.Entry.<Review, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry::getKey, TIE_BREAKER);
+
+        // the head of the heap is the lowest ranked of the reviews kept
+        PriorityQueue<Map.Entry<Review, Double>> topReviews = new PriorityQueue<>(ranking.reversed());
+        for (Map.Entry<Review, Double> score : scores.entrySet()) {
+            topReviews.add(score);
+            if (topReviews.size() > limit) {
+                topReviews.poll();
+            }
+        }
+
+        List<Review> result = new ArrayList<>(topReviews.size());
+        while (!topReviews.isEmpty()) {
+            result.add(topReviews.poll().getKey());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+}
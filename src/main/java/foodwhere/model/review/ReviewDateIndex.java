@@ -0,0 +1,76 @@
+package foodwhere.model.review;
+
+import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Indexes reviews by their {@code Date}, so that the reviews dated in a range can be found without scanning
+ * all reviews.
+ * Reviews are kept in a sorted map keyed by the epoch day of their dates, so a range lookup takes
+ * O(log n + k) time for k matching reviews.
+ */
+public class ReviewDateIndex {
+
+    /** Maps each epoch day to the reviews dated on that day, in the order they were added. */
+    private final NavigableMap<Long, Set<Review>> reviewsByDay = new TreeMap<>();
+
+    /**
+     * Adds {@code review} to the index. Does nothing if it is already indexed.
+     */
+    public void add(Review review) {
+        requireNonNull(review);
+        reviewsByDay.computeIfAbsent(toKey(review), unused -> new LinkedHashSet<>()).add(review);
+    }
+
+    /**
+     * Removes {@code review} from the index. Does nothing if it is not indexed.
+     */
+    public void remove(Review review) {
+        requireNonNull(review);
+        long key = toKey(review);
+        Set<Review> reviews = reviewsByDay.get(key);
+        if (reviews != null && reviews.remove(review) && reviews.isEmpty()) {
+            reviewsByDay.remove(key);
+        }
+    }
+
+    /**
+     * Removes all reviews from the index.
+     */
+    public void clear() {
+        reviewsByDay.clear();
+    }
+
+    /**
+     * Returns the reviews dated from {@code from} to {@code to}, inclusive, earliest first.
+     * Returns an empty list if {@code from} is after {@code to}.
+     *
+     * @param from First date of the range, which may be {@code LocalDate.MIN}.
+     * @param to Last date of the range, which may be {@code LocalDate.MAX}.
+     */
+    public List<Review> getBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return Collections.emptyList();
+        }
+
+        List<Review> result = new ArrayList<>();
+        for (Set<Review> reviews : reviewsByDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true).values()) {
+            result.addAll(reviews);
+        }
+        return result;
+    }
+
+    private static long toKey(Review review) {
+        return review.getDate().date.toEpochDay();
+    }
+}
@@ -0,0 +1,108 @@
+package foodwhere.model.review;
+
+import static foodwhere.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import foodwhere.model.commons.Tag;
+import foodwhere.model.commons.TagDictionary;
+
+/**
+ * Represents the number of reviews with each tag, each rating and in each month, among some reviews in FoodWhere.
+ * Tags are counted by their ids in the {@link TagDictionary}: the bits of each review's tag set are scanned into an
+ * array of counts, so no {@code Tag} is hashed or compared while counting.
+ * Guarantees: immutable.
+ */
+public class ReviewFacets {
+
+    private final int reviewCount;
+    /** Number of reviews with the tag of each id. */
+    private final int[] tagCounts;
+    /** Number of reviews with each rating, from {@link Rating#MIN_RATING}. */
+    private final int[] ratingCounts;
+    private final SortedMap<YearMonth, Integer> monthCounts;
+
+    private ReviewFacets(int reviewCount, int[] tagCounts, int[] ratingCounts,
+            SortedMap<YearMonth, Integer> monthCounts) {
+        this.reviewCount = reviewCount;
+        this.tagCounts = tagCounts;
+        this.ratingCounts = ratingCounts;
+        this.monthCounts = Collections.unmodifiableSortedMap(monthCounts);
+    }
+
+    /**
+     * Returns the facets of {@code reviews}.
+     */
+    public static ReviewFacets of(Collection<Review> reviews) {
+        requireNonNull(reviews);
+        int[] tagCounts = new int[TagDictionary.size()];
+        int[] ratingCounts = new int[Rating.MAX_RATING - Rating.MIN_RATING + 1];
+        SortedMap<YearMonth, Integer> monthCounts = new TreeMap<>();
+        for (Review review : reviews) {
+            review.getTags().forEachId(id -> tagCounts[id]++);
+            ratingCounts[review.getRating().intValue() - Rating.MIN_RATING]++;
+            monthCounts.merge(YearMonth.from(review.getDate().date), 1, Integer::sum);
+        }
+        return new ReviewFacets(reviews.size(), tagCounts, ratingCounts, monthCounts);
+    }
+
+    /**
+     * Returns the number of reviews.
+     */
+    public int getReviewCount() {
+        return reviewCount;
+    }
+
+    /**
+     * Returns the number of reviews with {@code tag}.
+     */
+    public int getCount(Tag tag) {
+        requireNonNull(tag);
+        return tag.getId() < tagCounts.length ? tagCounts[tag.getId()] : 0;
+    }
+
+    /**
+     * Returns the number of reviews with each tag that at least one review has, most common tag first.
+     * Tags with the same number of reviews are ordered by name.
+     */
+    public Map<Tag, Integer> getTagCounts() {
+        List<Tag> tags = new ArrayList<>();
+        for (int id = 0; id < tagCounts.length; id++) {
+            if (tagCounts[id] > 0) {
+                tags.add(TagDictionary.getTag(id));
+            }
+        }
+        tags.sort(Comparator.comparingInt((Tag tag) -> -tagCounts[tag.getId()]).thenComparing(tag -> tag.tag));
+
+        Map<Tag, Integer> counts = new LinkedHashMap<>();
+        for (Tag tag : tags) {
+            counts.put(tag, tagCounts[tag.getId()]);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of reviews with {@code rating}.
+     */
+    public int getRatingCount(int rating) {
+        checkArgument(rating >= Rating.MIN_RATING && rating <= Rating.MAX_RATING, Rating.MESSAGE_CONSTRAINTS);
+        return ratingCounts[rating - Rating.MIN_RATING];
+    }
+
+    /**
+     * Returns the number of reviews dated in each month that at least one review is dated in, earliest first.
+     */
+    public SortedMap<YearMonth, Integer> getMonthCounts() {
+        return monthCounts;
+    }
+}
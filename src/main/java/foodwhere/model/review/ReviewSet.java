@@ -0,0 +1,441 @@
+package foodwhere.model.review;
+
+import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of reviews that shares its structure with the sets it is derived from.
+ * The reviews are kept in a hash array mapped trie, so {@link #with(Review)} and {@link #without(Review)} return a
+ * new set in O(log n) time, copying only the nodes on the path to the review and reusing every other node and
+ * every review as they are.
+ * Modifying the set through the {@code Set} interface throws {@code UnsupportedOperationException}.
+ */
+public final class ReviewSet extends AbstractSet<Review> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int MAX_DEPTH = (Integer.SIZE + BITS_PER_LEVEL - 1) / BITS_PER_LEVEL + 1;
+
+    private static final ReviewSet EMPTY = new ReviewSet(null, 0, 0);
+
+    /** Root of the trie, or null if the set is empty. */
+    private final Node root;
+    private final int size;
+    /** Sum of the hash codes of the reviews, as defined by {@link java.util.Set#hashCode()}. */
+    private final int hashCode;
+
+    private ReviewSet(Node root, int size, int hashCode) {
+        this.root = root;
+        this.size = size;
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * Returns the empty set.
+     */
+    public static ReviewSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a set of {@code reviews}, or {@code reviews} itself if it is already a {@code ReviewSet}.
+     */
+    public static ReviewSet of(Collection<Review> reviews) {
+        requireNonNull(reviews);
+        if (reviews instanceof ReviewSet) {
+            return (ReviewSet) reviews;
+        }
+        ReviewSet set = EMPTY;
+        for (Review review : reviews) {
+            set = set.with(review);
+        }
+        return set;
+    }
+
+    /**
+     * Returns this set with {@code review} added, or this set itself if it already contains {@code review}.
+     */
+    public ReviewSet with(Review review) {
+        requireNonNull(review);
+        Node newRoot = root == null
+                ? Node.of(review, spread(review.hashCode()), 0)
+                : root.with(review, spread(review.hashCode()), 0);
+        return newRoot == root ? this : new ReviewSet(newRoot, size + 1, hashCode + review.hashCode());
+    }
+
+    /**
+     * Returns this set with {@code review} removed, or this set itself if it does not contain {@code review}.
+     */
+    public ReviewSet without(Review review) {
+        requireNonNull(review);
+        if (root == null) {
+            return this;
+        }
+        Object newRoot = root.without(review, spread(review.hashCode()), 0);
+        if (newRoot == root) {
+            return this;
+        }
+        if (newRoot == null) {
+            return EMPTY;
+        }
+        if (newRoot instanceof Review) {
+            Review remaining = (Review) newRoot;
+            newRoot = Node.of(remaining, spread(remaining.hashCode()), 0);
+        }
+        return new ReviewSet((Node) newRoot, size - 1, hashCode - review.hashCode());
+    }
+
+    /**
+     * Passes each review of {@code oldSet} that is not in {@code newSet} to {@code removed}, then each review of
+     * {@code newSet} that is not in {@code oldSet} to {@code added}.
+     * Parts of the sets that are shared are skipped without being visited, so comparing a set with one derived
+     * from it by a few additions and removals takes O(log n) time per changed review.
+     */
+    public static void diff(ReviewSet oldSet, ReviewSet newSet, Consumer<Review> removed, Consumer<Review> added) {
+        requireAllNonNull(oldSet, newSet, removed, added);
+        List<Review> addedReviews = new ArrayList<>();
+        diff(oldSet.root, newSet.root, removed, addedReviews::add);
+        addedReviews.forEach(added);
+    }
+
+    private static void diff(Object oldEntry, Object newEntry, Consumer<Review> removed, Consumer<Review> added) {
+        if (oldEntry == newEntry) {
+            return;
+        }
+        if (oldEntry instanceof Node && newEntry instanceof Node
+                && !((Node) oldEntry).isCollision() && !((Node) newEntry).isCollision()) {
+            Node oldNode = (Node) oldEntry;
+            Node newNode = (Node) newEntry;
+            int bits = oldNode.bitmap | newNode.bitmap;
+            while (bits != 0) {
+                int bit = Integer.lowestOneBit(bits);
+                diff(oldNode.get(bit), newNode.get(bit), removed, added);
+                bits &= ~bit;
+            }
+            return;
+        }
+
+        // The entries differ in shape, so at least one of them is a single review or a small collision node.
+        ReviewSet oldReviews = EMPTY;
+        ReviewSet newReviews = EMPTY;
+        for (Review review : reviewsOf(oldEntry)) {
+            oldReviews = oldReviews.with(review);
+        }
+        for (Review review : reviewsOf(newEntry)) {
+            newReviews = newReviews.with(review);
+        }
+        for (Review review : oldReviews) {
+            if (!newReviews.contains(review)) {
+                removed.accept(review);
+            }
+        }
+        for (Review review : newReviews) {
+            if (!oldReviews.contains(review)) {
+                added.accept(review);
+            }
+        }
+    }
+
+    private static List<Review> reviewsOf(Object entry) {
+        List<Review> reviews = new ArrayList<>();
+        if (entry instanceof Review) {
+            reviews.add((Review) entry);
+        } else if (entry != null) {
+            new ReviewSet((Node) entry, 0, 0).forEach(reviews::add);
+        }
+        return reviews;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Review) || root == null) {
+            return false;
+        }
+        int hash = spread(o.hashCode());
+        Node node = root;
+        for (int shift = 0; ; shift += BITS_PER_LEVEL) {
+            if (node.isCollision()) {
+                return node.indexOf(o) >= 0;
+            }
+            Object entry = node.get(bitFor(hash, shift));
+            if (!(entry instanceof Node)) {
+                return o.equals(entry);
+            }
+            node = (Node) entry;
+        }
+    }
+
+    @Override
+    public boolean add(Review e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Review> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Review> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Review> iterator() {
+        return new ReviewIterator(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof ReviewSet && ((ReviewSet) other).root == root) {
+            return true;
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * A node of the trie. Each entry of a node is either a {@code Review} or a child {@code Node}.
+     * Below the last level of hash bits, reviews with equal hashes are kept in a collision node, whose entries are
+     * all reviews and whose bitmap is 0.
+     */
+    private static final class Node {
+        private final int bitmap;
+        private final Object[] entries;
+
+        private Node(int bitmap, Object[] entries) {
+            this.bitmap = bitmap;
+            this.entries = entries;
+        }
+
+        /** Returns a node containing only {@code review}, at level {@code shift}. */
+        static Node of(Review review, int hash, int shift) {
+            return new Node(bitFor(hash, shift), new Object[] {review});
+        }
+
+        /** Returns a node at level {@code shift} containing the two different reviews {@code a} and {@code b}. */
+        static Node of(Review a, int hashA, Review b, int hashB, int shift) {
+            if (shift >= Integer.SIZE) {
+                return new Node(0, new Object[] {a, b});
+            }
+            int bitA = bitFor(hashA, shift);
+            int bitB = bitFor(hashB, shift);
+            if (bitA == bitB) {
+                return new Node(bitA, new Object[] {of(a, hashA, b, hashB, shift + BITS_PER_LEVEL)});
+            }
+            boolean isAFirst = Integer.compareUnsigned(bitA, bitB) < 0;
+            return new Node(bitA | bitB, isAFirst ? new Object[] {a, b} : new Object[] {b, a});
+        }
+
+        boolean isCollision() {
+            return bitmap == 0;
+        }
+
+        /** Returns the entry at {@code bit}, or null if there is none. */
+        Object get(int bit) {
+            return (bitmap & bit) == 0 ? null : entries[index(bit)];
+        }
+
+        int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        int indexOf(Object review) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].equals(review)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /** Returns this node with {@code review} added, or this node itself if it already contains it. */
+        Node with(Review review, int hash, int shift) {
+            if (isCollision()) {
+                return indexOf(review) >= 0 ? this : new Node(0, inserted(entries, entries.length, review));
+            }
+
+            int bit = bitFor(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                return new Node(bitmap | bit, inserted(entries, index, review));
+            }
+
+            Object entry = entries[index];
+            Object newEntry;
+            if (entry instanceof Node) {
+                newEntry = ((Node) entry).with(review, hash, shift + BITS_PER_LEVEL);
+            } else if (entry.equals(review)) {
+                newEntry = entry;
+            } else {
+                Review existing = (Review) entry;
+                newEntry = of(existing, spread(existing.hashCode()), review, hash, shift + BITS_PER_LEVEL);
+            }
+            return newEntry == entry ? this : new Node(bitmap, replaced(entries, index, newEntry));
+        }
+
+        /**
+         * Returns this node with {@code review} removed, or this node itself if it does not contain it.
+         * Returns null if the node becomes empty, or its only review if it is left with a single review.
+         */
+        Object without(Review review, int hash, int shift) {
+            if (isCollision()) {
+                int index = indexOf(review);
+                if (index < 0) {
+                    return this;
+                }
+                Object[] newEntries = removed(entries, index);
+                return newEntries.length == 1 ? newEntries[0] : new Node(0, newEntries);
+            }
+
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit);
+            Object entry = entries[index];
+            Object newEntry;
+            if (entry instanceof Node) {
+                newEntry = ((Node) entry).without(review, hash, shift + BITS_PER_LEVEL);
+            } else {
+                newEntry = entry.equals(review) ? null : entry;
+            }
+            if (newEntry == entry) {
+                return this;
+            }
+
+            if (newEntry != null) {
+                return new Node(bitmap, replaced(entries, index, newEntry));
+            }
+            if (entries.length == 1) {
+                return null;
+            }
+            if (entries.length == 2 && !(entries[1 - index] instanceof Node)) {
+                return entries[1 - index];
+            }
+            return new Node(bitmap & ~bit, removed(entries, index));
+        }
+
+        private static Object[] inserted(Object[] entries, int index, Object entry) {
+            Object[] newEntries = new Object[entries.length + 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            newEntries[index] = entry;
+            System.arraycopy(entries, index, newEntries, index + 1, entries.length - index);
+            return newEntries;
+        }
+
+        private static Object[] replaced(Object[] entries, int index, Object entry) {
+            Object[] newEntries = entries.clone();
+            newEntries[index] = entry;
+            return newEntries;
+        }
+
+        private static Object[] removed(Object[] entries, int index) {
+            Object[] newEntries = new Object[entries.length - 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, entries.length - index - 1);
+            return newEntries;
+        }
+    }
+
+    /**
+     * Iterates over the reviews of a trie depth first, keeping the path to the current review in a stack.
+     */
+    private static final class ReviewIterator implements Iterator<Review> {
+        private final Node[] nodes = new Node[MAX_DEPTH];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+        private Review next;
+
+        ReviewIterator(Node root) {
+            if (root != null) {
+                nodes[0] = root;
+                depth = 1;
+                advance();
+            }
+        }
+
+        private void advance() {
+            next = null;
+            while (depth > 0) {
+                Node node = nodes[depth - 1];
+                int position = positions[depth - 1]++;
+                if (position >= node.entries.length) {
+                    positions[depth - 1] = 0;
+                    depth--;
+                    continue;
+                }
+                Object entry = node.entries[position];
+                if (entry instanceof Node) {
+                    nodes[depth] = (Node) entry;
+                    positions[depth] = 0;
+                    depth++;
+                } else {
+                    next = (Review) entry;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Review next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Review review = next;
+            advance();
+            return review;
+        }
+    }
+}
@@ -3,12 +3,16 @@ package foodwhere.model.review;
 import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import foodwhere.model.review.exceptions.DuplicateReviewException;
 import foodwhere.model.review.exceptions.ReviewNotFoundException;
+import foodwhere.model.util.SortUtil;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -19,6 +23,9 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniqueReviewList. However, the removal of a Review uses Review#equals(Object) so
  * as to ensure that the review with exactly the same fields will be removed.
  *
+ * The reviews are also kept in a hash set, which is consistent with Review#isSameReview(Review) as both compare
+ * every field of the review, so that identity checks do not need to scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Review#isSameReview(Review)
@@ -28,6 +35,7 @@ public class UniqueReviewList implements Iterable<Review> {
     private final ObservableList<Review> internalList = FXCollections.observableArrayList();
     private final ObservableList<Review> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<Review> identityIndex = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent review as the given argument.
@@ -37,7 +45,7 @@ public class UniqueReviewList implements Iterable<Review> {
      */
     public boolean contains(Review toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameReview);
+        return identityIndex.contains(toCheck);
     }
 
     /**
@@ -48,7 +56,7 @@ public class UniqueReviewList implements Iterable<Review> {
      */
     public void add(Review toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (!identityIndex.add(toAdd)) {
             throw new DuplicateReviewException();
         }
         internalList.add(toAdd);
@@ -65,8 +73,7 @@ public class UniqueReviewList implements Iterable<Review> {
     public void setReview(Review target, Review editedReview) {
         requireAllNonNull(target, editedReview);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!identityIndex.contains(target)) {
             throw new ReviewNotFoundException();
         }
 
@@ -74,7 +81,10 @@ public class UniqueReviewList implements Iterable<Review> {
             throw new DuplicateReviewException();
         }
 
+        int index = internalList.indexOf(target);
         internalList.set(index, editedReview);
+        identityIndex.remove(target);
+        identityIndex.add(editedReview);
     }
 
     /**
@@ -85,14 +95,49 @@ public class UniqueReviewList implements Iterable<Review> {
      */
     public void remove(Review toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!identityIndex.remove(toRemove)) {
             throw new ReviewNotFoundException();
         }
+        internalList.remove(toRemove);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in iteration order.
+     * None of the reviews must already exist in the list, and {@code toAdd} must not contain duplicate reviews.
+     *
+     * @param toAdd {@code Review}s to be added in.
+     */
+    public void addAll(Collection<Review> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Review> added = new HashSet<>();
+        for (Review review : toAdd) {
+            requireNonNull(review);
+            if (identityIndex.contains(review) || !added.add(review)) {
+                throw new DuplicateReviewException();
+            }
+        }
+        internalList.addAll(toAdd);
+        identityIndex.addAll(added);
     }
 
-    /** Sorts the list by {@code comparator}. */
+    /**
+     * Removes all of the equivalent reviews in {@code toRemove} from the list.
+     * The reviews must exist in the list.
+     *
+     * @param toRemove {@code Review}s to be removed.
+     */
+    public void removeAll(Set<Review> toRemove) {
+        requireAllNonNull(toRemove);
+        if (!identityIndex.containsAll(toRemove)) {
+            throw new ReviewNotFoundException();
+        }
+        internalList.removeIf(toRemove::contains);
+        identityIndex.removeAll(toRemove);
+    }
+
+    /** Sorts the list by {@code comparator}, in parallel if the list is large. */
     public void sort(Comparator<Review> comparator) {
-        internalList.sort(comparator);
+        SortUtil.sort(internalList, comparator);
     }
 
     /**
@@ -103,6 +148,8 @@ public class UniqueReviewList implements Iterable<Review> {
     public void setReviews(UniqueReviewList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.addAll(replacement.identityIndex);
     }
 
     /**
@@ -113,11 +160,14 @@ public class UniqueReviewList implements Iterable<Review> {
      */
     public void setReviews(List<Review> reviews) {
         requireAllNonNull(reviews);
-        if (!reviewsAreUnique(reviews)) {
+        Set<Review> replacementIndex = new HashSet<>(reviews);
+        if (replacementIndex.size() != reviews.size()) {
             throw new DuplicateReviewException();
         }
 
         internalList.setAll(reviews);
+        identityIndex.clear();
+        identityIndex.addAll(replacementIndex);
     }
 
     /**
@@ -143,18 +193,4 @@ public class UniqueReviewList implements Iterable<Review> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code reviews} contains only unique reviews.
-     */
-    private boolean reviewsAreUnique(List<Review> reviews) {
-        for (int i = 0; i < reviews.size() - 1; i++) {
-            for (int j = i + 1; j < reviews.size(); j++) {
-                if (reviews.get(i).isSameReview(reviews.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
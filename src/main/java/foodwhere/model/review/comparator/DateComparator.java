@@ -13,7 +13,7 @@ public class DateComparator implements Comparator<Review> {
     @Override
     public int compare(Review r1, Review r2) {
         requireAllNonNull(r1, r2);
-        return r1.getDate().compareTo(r2.getDate());
+        return Long.compare(r1.getDate().getEpochDay(), r2.getDate().getEpochDay());
     }
 
     /**
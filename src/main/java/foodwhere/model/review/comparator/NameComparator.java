@@ -13,7 +13,7 @@ public class NameComparator implements Comparator<Review> {
     @Override
     public int compare(Review r1, Review r2) {
         requireAllNonNull(r1, r2);
-        return r1.getName().fullName.compareToIgnoreCase(r2.getName().fullName);
+        return r1.getName().compareToIgnoreCase(r2.getName());
     }
 
     /**
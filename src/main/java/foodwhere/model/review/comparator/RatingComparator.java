@@ -13,7 +13,7 @@ public class RatingComparator implements Comparator<Review> {
     @Override
     public int compare(Review r1, Review r2) {
         requireAllNonNull(r1, r2);
-        return r1.getRating().value.compareTo(r2.getRating().value);
+        return Integer.compare(r1.getRating().intValue(), r2.getRating().intValue());
     }
 
     /**
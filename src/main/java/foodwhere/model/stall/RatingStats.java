@@ -0,0 +1,174 @@
+package foodwhere.model.stall;
+
+import static foodwhere.commons.util.AppUtil.checkArgument;
+import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+import foodwhere.model.review.Rating;
+import foodwhere.model.review.Review;
+
+/**
+ * Represents the aggregate ratings of the reviews of a Stall in FoodWhere: the number of reviews, the sum of their
+ * ratings, the number of reviews with each rating, and the date of the latest review.
+ * Adding or removing a review gives new stats in constant time, so the stats of a stall never need to be computed
+ * from all its reviews after it is created.
+ * Guarantees: immutable.
+ */
+public class RatingStats {
+
+    public static final RatingStats EMPTY = new RatingStats(0, 0,
+            new int[Rating.MAX_RATING - Rating.MIN_RATING + 1], null, 0);
+
+    private final int count;
+    private final long sum;
+    private final int[] histogram;
+    private final LocalDate latestDate;
+    private final int latestDateCount;
+
+    private RatingStats(int count, long sum, int[] histogram, LocalDate latestDate, int latestDateCount) {
+        this.count = count;
+        this.sum = sum;
+        this.histogram = histogram;
+        this.latestDate = latestDate;
+        this.latestDateCount = latestDateCount;
+    }
+
+    /**
+     * Returns the stats of {@code reviews}.
+     */
+    public static RatingStats of(Collection<Review> reviews) {
+        requireNonNull(reviews);
+        RatingStats stats = EMPTY;
+        for (Review review : reviews) {
+            stats = stats.withReview(review);
+        }
+        return stats;
+    }
+
+    /**
+     * Returns the stats after {@code review} is added.
+     */
+    public RatingStats withReview(Review review) {
+        requireNonNull(review);
+        int rating = review.getRating().intValue();
+        LocalDate date = review.getDate().date;
+
+        int[] newHistogram = histogram.clone();
+        newHistogram[rating - Rating.MIN_RATING]++;
+        if (latestDate == null || date.isAfter(latestDate)) {
+            return new RatingStats(count + 1, sum + rating, newHistogram, date, 1);
+        }
+        int newLatestDateCount = date.equals(latestDate) ? latestDateCount + 1 : latestDateCount;
+        return new RatingStats(count + 1, sum + rating, newHistogram, latestDate, newLatestDateCount);
+    }
+
+    /**
+     * Returns the stats after {@code review} is removed.
+     * {@code review} must have been added to these stats.
+     * Only if the last review on the latest date is removed are {@code remainingReviews} scanned for the new latest
+     * date.
+     *
+     * @param review Review that is removed.
+     * @param remainingReviews Reviews remaining after {@code review} is removed.
+     */
+    public RatingStats withoutReview(Review review, Collection<Review> remainingReviews) {
+        requireAllNonNull(review, remainingReviews);
+        int rating = review.getRating().intValue();
+        LocalDate date = review.getDate().date;
+        checkArgument(count > 0 && histogram[rating - Rating.MIN_RATING] > 0, "Review is not in the stats");
+
+        int[] newHistogram = histogram.clone();
+        newHistogram[rating - Rating.MIN_RATING]--;
+        if (!date.equals(latestDate)) {
+            return new RatingStats(count - 1, sum - rating, newHistogram, latestDate, latestDateCount);
+        }
+        if (latestDateCount > 1) {
+            return new RatingStats(count - 1, sum - rating, newHistogram, latestDate, latestDateCount - 1);
+        }
+
+        LocalDate newLatestDate = null;
+        int newLatestDateCount = 0;
+        for (Review remainingReview : remainingReviews) {
+            LocalDate remainingDate = remainingReview.getDate().date;
+            if (newLatestDate == null || remainingDate.isAfter(newLatestDate)) {
+                newLatestDate = remainingDate;
+                newLatestDateCount = 1;
+            } else if (remainingDate.equals(newLatestDate)) {
+                newLatestDateCount++;
+            }
+        }
+        return new RatingStats(count - 1, sum - rating, newHistogram, newLatestDate, newLatestDateCount);
+    }
+
+    /**
+     * Returns the number of reviews.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of the ratings of the reviews.
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the number of reviews with {@code rating}.
+     */
+    public int getCount(int rating) {
+        checkArgument(rating >= Rating.MIN_RATING && rating <= Rating.MAX_RATING, Rating.MESSAGE_CONSTRAINTS);
+        return histogram[rating - Rating.MIN_RATING];
+    }
+
+    /**
+     * Returns the average rating of the reviews, or an empty {@code OptionalDouble} if there are no reviews.
+     */
+    public OptionalDouble getAverage() {
+        return count == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) sum / count);
+    }
+
+    /**
+     * Returns the date of the latest review, or {@code Optional.empty()} if there are no reviews.
+     */
+    public Optional<LocalDate> getLatestDate() {
+        return Optional.ofNullable(latestDate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RatingStats)) {
+            return false;
+        }
+
+        RatingStats otherStats = (RatingStats) other;
+        return count == otherStats.count
+                && sum == otherStats.sum
+                && Arrays.equals(histogram, otherStats.histogram)
+                && Objects.equals(latestDate, otherStats.latestDate)
+                && latestDateCount == otherStats.latestDateCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, sum, Arrays.hashCode(histogram), latestDate);
+    }
+
+    @Override
+    public String toString() {
+        return "Reviews: " + count + "; Rating sum: " + sum + "; Ratings: " + Arrays.toString(histogram)
+                + "; Latest: " + latestDate;
+    }
+}
@@ -2,8 +2,6 @@ package foodwhere.model.stall;
 
 import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -12,7 +10,9 @@ import java.util.stream.Stream;
 import foodwhere.model.commons.Address;
 import foodwhere.model.commons.Name;
 import foodwhere.model.commons.Tag;
+import foodwhere.model.commons.TagSet;
 import foodwhere.model.review.Review;
+import foodwhere.model.review.ReviewSet;
 
 /**
  * Represents a Stall in FoodWhere.
@@ -25,8 +25,13 @@ public class Stall {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Review> reviews = new HashSet<>();
+    private final TagSet tags;
+    private final ReviewSet reviews;
+    private final RatingStats ratingStats;
+
+    // Cached values, which are computed once as all fields are immutable
+    private final StallIdentity identity;
+    private final int hash;
 
     /**
      * Every field must be present and not null.
@@ -35,7 +40,11 @@ public class Stall {
         requireAllNonNull(name, address, tags);
         this.name = name;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.reviews = ReviewSet.empty();
+        this.ratingStats = RatingStats.EMPTY;
+        this.identity = new StallIdentity(name, address);
+        this.hash = computeHash();
     }
 
     /**
@@ -45,10 +54,27 @@ public class Stall {
         requireAllNonNull(name, address, tags);
         this.name = name;
         this.address = address;
-        this.tags.addAll(tags);
-        if (!reviews.isEmpty()) {
-            this.reviews.addAll(reviews);
-        }
+        this.tags = TagSet.of(tags);
+        this.reviews = ReviewSet.of(reviews);
+        this.ratingStats = RatingStats.of(this.reviews);
+        this.identity = new StallIdentity(name, address);
+        this.hash = computeHash();
+    }
+
+    /**
+     * Constructor with reviews and their stats, which must be the stats of {@code reviews}.
+     * This avoids computing the stats from all the reviews when they have been kept up to date, and shares
+     * {@code reviews} with the stall they were derived from instead of copying them.
+     */
+    Stall(Name name, Address address, Set<Tag> tags, ReviewSet reviews, RatingStats ratingStats) {
+        requireAllNonNull(name, address, tags, reviews, ratingStats);
+        this.name = name;
+        this.address = address;
+        this.tags = TagSet.of(tags);
+        this.reviews = reviews;
+        this.ratingStats = ratingStats;
+        this.identity = new StallIdentity(name, address);
+        this.hash = computeHash();
     }
 
     public Name getName() {
@@ -63,16 +89,31 @@ public class Stall {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
      * Returns an immutable review set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Review> getReviews() {
-        return Collections.unmodifiableSet(reviews);
+    public ReviewSet getReviews() {
+        return reviews;
+    }
+
+    /**
+     * Returns the identity fields of this stall, which can be used to look the stall up without comparing its
+     * data fields.
+     */
+    public StallIdentity getIdentity() {
+        return identity;
+    }
+
+    /**
+     * Returns the aggregate ratings of the reviews of this stall.
+     */
+    public RatingStats getRatingStats() {
+        return ratingStats;
     }
 
     /**
@@ -104,7 +145,8 @@ public class Stall {
         }
 
         Stall otherStall = (Stall) other;
-        return otherStall.getName().equals(getName())
+        return otherStall.hash == hash
+                && otherStall.getName().equals(getName())
                 && otherStall.getAddress().equals(getAddress())
                 && otherStall.getTags().equals(getTags())
                 && otherStall.getReviews().equals(getReviews());
@@ -112,6 +154,10 @@ public class Stall {
 
     @Override
     public int hashCode() {
+        return hash;
+    }
+
+    private int computeHash() {
         // use this method for custom fields hashing instead of implementing your own
         return Objects.hash(name, address, tags, reviews);
     }
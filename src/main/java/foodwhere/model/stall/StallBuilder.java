@@ -11,6 +11,7 @@ import foodwhere.model.commons.Name;
 import foodwhere.model.commons.Tag;
 import foodwhere.model.review.Review;
 import foodwhere.model.review.ReviewBuilder;
+import foodwhere.model.review.ReviewSet;
 import foodwhere.model.review.exceptions.DuplicateReviewException;
 import foodwhere.model.review.exceptions.ReviewNotFoundException;
 import foodwhere.model.util.SampleDataUtil;
@@ -26,16 +27,21 @@ public class StallBuilder {
     private Name name;
     private Address address;
     private Set<Tag> tags;
-    private HashSet<Review> reviews;
+    private ReviewSet reviews;
+    /** Stall name that all of {@code reviews} have, or null if they may have other names. */
+    private Name reviewsName;
+    private RatingStats ratingStats;
 
     /**
      * Creates a {@code StallBuilder} with the default details.
      */
     public StallBuilder() {
-        name = new Name(DEFAULT_NAME);
-        address = new Address(DEFAULT_ADDRESS);
+        name = Name.of(DEFAULT_NAME);
+        address = Address.of(DEFAULT_ADDRESS);
         tags = new HashSet<>();
-        reviews = new HashSet<>();
+        reviews = ReviewSet.empty();
+        reviewsName = name;
+        ratingStats = RatingStats.EMPTY;
     }
 
     /**
@@ -45,14 +51,16 @@ public class StallBuilder {
         name = stallToCopy.getName();
         address = stallToCopy.getAddress();
         tags = new HashSet<>(stallToCopy.getTags());
-        reviews = new HashSet<>(stallToCopy.getReviews());
+        reviews = stallToCopy.getReviews();
+        reviewsName = stallToCopy.getName();
+        ratingStats = stallToCopy.getRatingStats();
     }
 
     /**
      * Sets the {@code name} of the {@code Stall} that we are building.
      */
     public StallBuilder withName(String name) {
-        this.name = new Name(name);
+        this.name = Name.of(name);
         return this;
     }
 
@@ -68,7 +76,7 @@ public class StallBuilder {
      * Sets the {@code address} of the {@code Stall} that we are building.
      */
     public StallBuilder withAddress(String address) {
-        this.address = new Address(address);
+        this.address = Address.of(address);
         return this;
     }
 
@@ -80,45 +88,67 @@ public class StallBuilder {
         for (Review review : reviews) {
             requireNonNull(review);
         }
-        this.reviews = new HashSet<>(List.of(reviews));
+        this.reviews = ReviewSet.of(List.of(reviews));
+        this.reviewsName = null;
+        this.ratingStats = RatingStats.of(this.reviews);
         return this;
     }
 
     /**
      * Adds a review to the {@code Stall} that we are building.
+     * The other reviews of the stall are neither copied nor visited.
      */
     public StallBuilder addReview(Review review) {
         requireNonNull(review);
-        if (this.reviews.contains(review)) {
+        ReviewSet newReviews = this.reviews.with(review);
+        if (newReviews == this.reviews) {
             throw new DuplicateReviewException();
         }
-        this.reviews.add(review);
+        this.reviews = newReviews;
+        if (!review.getName().equals(reviewsName)) {
+            this.reviewsName = null;
+        }
+        this.ratingStats = ratingStats.withReview(review);
         return this;
     }
 
     /**
      * Removes a review from the {@code Stall} that we are building.
+     * The other reviews of the stall are neither copied nor visited.
      */
     public StallBuilder removeReview(Review review) {
         requireNonNull(review);
-        if (!this.reviews.contains(review)) {
+        ReviewSet newReviews = this.reviews.without(review);
+        if (newReviews == this.reviews) {
             throw new ReviewNotFoundException();
         }
-        this.reviews.remove(review);
+        this.reviews = newReviews;
+        this.ratingStats = ratingStats.withoutReview(review, this.reviews);
         return this;
     }
 
     /**
      * Builds a stall.
+     * The reviews are only renamed if they may not have the stall name, so they are otherwise shared with the stall
+     * that this builder was initialized with.
      * @return Stall with the stored data.
      */
     public Stall build() {
-        HashSet<Review> namedReviews = new HashSet<>();
-        for (Review review : reviews) {
-            Review namedReview = new ReviewBuilder(review)
-                    .withName(name.fullName).build();
-            namedReviews.add(namedReview);
+        if (!name.equals(reviewsName)) {
+            ReviewSet namedReviews = ReviewSet.empty();
+            for (Review review : reviews) {
+                namedReviews = namedReviews.with(withStallName(review));
+            }
+            reviews = namedReviews;
+            reviewsName = name;
+        }
+        return new Stall(name, address, tags, reviews, ratingStats);
+    }
+
+    private Review withStallName(Review review) {
+        if (review.getName().equals(name)) {
+            return review;
         }
-        return new Stall(name, address, tags, namedReviews);
+        return new ReviewBuilder(review).withName(name.fullName).build();
     }
 }
@@ -1,5 +1,8 @@
 package foodwhere.model.stall;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -38,6 +41,35 @@ public class StallContainsKeywordsPredicate implements Predicate<Stall> {
         this.tagKeywords = new HashSet<Tag>(tagKeywords);
     }
 
+    /**
+     * Returns the name keywords of this predicate.
+     */
+    public Set<Name> getNameKeywords() {
+        return Collections.unmodifiableSet(nameKeywords);
+    }
+
+    /**
+     * Returns the tag keywords of this predicate.
+     */
+    public Set<Tag> getTagKeywords() {
+        return Collections.unmodifiableSet(tagKeywords);
+    }
+
+    /**
+     * Returns a predicate equivalent to this predicate, given the identities of all stalls it matches,
+     * such as the union of {@link foodwhere.model.Model#getStallsWithAnyTag} for {@link #getTagKeywords()} and
+     * {@link foodwhere.model.Model#getStallsWithAnyNameWord} for {@link #getNameKeywords()}.
+     * Stalls are then tested by set membership instead of comparing them with every keyword.
+     * The predicate is only equivalent until the stalls change, as tags can be edited without changing the identity
+     * of a stall, so the model shows all stalls again whenever a stall is added or replaced.
+     *
+     * @param matchingStalls Identities of the stalls matching this predicate.
+     */
+    public Predicate<Stall> withMatches(Set<StallIdentity> matchingStalls) {
+        requireNonNull(matchingStalls);
+        return stall -> matchingStalls.contains(stall.getIdentity());
+    }
+
     @Override
     public boolean test(Stall stall) {
         for (Tag tag : stall.getTags()) {
@@ -46,10 +78,13 @@ public class StallContainsKeywordsPredicate implements Predicate<Stall> {
             }
         }
 
-        return nameKeywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(stall.getName().fullName, keyword.fullName));
+        return matchesName(stall);
     }
 
+    private boolean matchesName(Stall stall) {
+        Name name = stall.getName();
+        return nameKeywords.stream().anyMatch(keyword -> name.containsWord(keyword.fullName));
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -0,0 +1,60 @@
+package foodwhere.model.stall;
+
+import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import foodwhere.model.commons.Address;
+import foodwhere.model.commons.Name;
+
+/**
+ * Represents the identity fields of a {@code Stall}, as compared by {@link Stall#isSameStall(Stall)}.
+ * Guarantees: immutable; equal identities have equal hash codes, so it can be used as a hash key.
+ */
+public class StallIdentity {
+
+    private final Name name;
+    private final Address address;
+    private final int hash;
+
+    /**
+     * Constructs a {@code StallIdentity} from the given identity fields.
+     *
+     * @param name Name of the stall.
+     * @param address Address of the stall.
+     */
+    public StallIdentity(Name name, Address address) {
+        requireAllNonNull(name, address);
+        this.name = name;
+        this.address = address;
+        hash = Objects.hash(name, address);
+    }
+
+    /**
+     * Constructs the {@code StallIdentity} of {@code stall}.
+     *
+     * @param stall Stall to take the identity fields from.
+     */
+    public StallIdentity(Stall stall) {
+        this(stall.getName(), stall.getAddress());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StallIdentity // instanceof handles nulls
+                && hash == ((StallIdentity) other).hash
+                && name.equals(((StallIdentity) other).name)
+                && address.equals(((StallIdentity) other).address)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return name + "; Address: " + address;
+    }
+}
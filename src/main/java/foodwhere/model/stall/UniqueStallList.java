@@ -4,11 +4,15 @@ import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import foodwhere.model.stall.exceptions.DuplicateStallException;
 import foodwhere.model.stall.exceptions.StallNotFoundException;
+import foodwhere.model.util.SortUtil;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -19,6 +23,8 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniqueStallList. However, the removal of a stall uses Stall#equals(Object) so
  * as to ensure that the stall with exactly the same fields will be removed.
  *
+ * The stalls are also indexed by their {@code StallIdentity}, so that identity checks do not need to scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Stall#isSameStall(Stall)
@@ -28,13 +34,34 @@ public class UniqueStallList implements Iterable<Stall> {
     private final ObservableList<Stall> internalList = FXCollections.observableArrayList();
     private final ObservableList<Stall> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<StallIdentity, Stall> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent stall as the given argument.
      */
     public boolean contains(Stall toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStall);
+        return identityIndex.containsKey(toCheck.getIdentity());
+    }
+
+    /**
+     * Returns the stall in the list with the given {@code identity}.
+     *
+     * @param identity {@code StallIdentity} of the stall to be found.
+     * @throws StallNotFoundException if there is no such stall in the list.
+     */
+    public Stall getStall(StallIdentity identity) {
+        return findStall(identity).orElseThrow(StallNotFoundException::new);
+    }
+
+    /**
+     * Returns the stall in the list with the given {@code identity}, or {@code Optional.empty()} if there is none.
+     *
+     * @param identity {@code StallIdentity} of the stall to be found.
+     */
+    public Optional<Stall> findStall(StallIdentity identity) {
+        requireNonNull(identity);
+        return Optional.ofNullable(identityIndex.get(identity));
     }
 
     /**
@@ -49,6 +76,7 @@ public class UniqueStallList implements Iterable<Stall> {
             throw new DuplicateStallException();
         }
         internalList.add(toAdd);
+        identityIndex.put(toAdd.getIdentity(), toAdd);
     }
 
     /**
@@ -62,8 +90,8 @@ public class UniqueStallList implements Iterable<Stall> {
     public void setStall(Stall target, Stall editedStall) {
         requireAllNonNull(target, editedStall);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        StallIdentity targetIdentity = target.getIdentity();
+        if (!target.equals(identityIndex.get(targetIdentity))) {
             throw new StallNotFoundException();
         }
 
@@ -71,7 +99,10 @@ public class UniqueStallList implements Iterable<Stall> {
             throw new DuplicateStallException();
         }
 
+        int index = internalList.indexOf(target);
         internalList.set(index, editedStall);
+        identityIndex.remove(targetIdentity);
+        identityIndex.put(editedStall.getIdentity(), editedStall);
     }
 
     /**
@@ -82,14 +113,17 @@ public class UniqueStallList implements Iterable<Stall> {
      */
     public void remove(Stall toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        StallIdentity identity = toRemove.getIdentity();
+        if (!toRemove.equals(identityIndex.get(identity))) {
             throw new StallNotFoundException();
         }
+        internalList.remove(toRemove);
+        identityIndex.remove(identity);
     }
 
-    /** Sorts the list by {@code comparator}. */
+    /** Sorts the list by {@code comparator}, in parallel if the list is large. */
     public void sort(Comparator<Stall> comparator) {
-        internalList.sort(comparator);
+        SortUtil.sort(internalList, comparator);
     }
 
     /**
@@ -100,6 +134,8 @@ public class UniqueStallList implements Iterable<Stall> {
     public void setStalls(UniqueStallList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
     }
 
     /**
@@ -110,11 +146,14 @@ public class UniqueStallList implements Iterable<Stall> {
      */
     public void setStalls(List<Stall> stalls) {
         requireAllNonNull(stalls);
-        if (!stallsAreUnique(stalls)) {
+        Map<StallIdentity, Stall> replacementIndex = indexStalls(stalls);
+        if (replacementIndex == null) {
             throw new DuplicateStallException();
         }
 
         internalList.setAll(stalls);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
     }
 
     /**
@@ -142,16 +181,15 @@ public class UniqueStallList implements Iterable<Stall> {
     }
 
     /**
-     * Returns true if {@code stalls} contains only unique stalls.
+     * Returns the identity index of {@code stalls}, or null if {@code stalls} contains duplicate stalls.
      */
-    private boolean stallsAreUnique(List<Stall> stalls) {
-        for (int i = 0; i < stalls.size() - 1; i++) {
-            for (int j = i + 1; j < stalls.size(); j++) {
-                if (stalls.get(i).isSameStall(stalls.get(j))) {
-                    return false;
-                }
+    private Map<StallIdentity, Stall> indexStalls(List<Stall> stalls) {
+        Map<StallIdentity, Stall> index = new HashMap<>();
+        for (Stall stall : stalls) {
+            if (index.putIfAbsent(stall.getIdentity(), stall) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,36 @@
+package foodwhere.model.stall.comparator;
+
+import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+
+import foodwhere.model.stall.RatingStats;
+import foodwhere.model.stall.Stall;
+
+/**
+ * Creates a comparator class {@code AverageRatingComparator} that compares the stall by the average rating of its
+ * reviews, using the rating stats kept by the stall. Stalls without reviews come before all other stalls.
+ */
+public class AverageRatingComparator implements Comparator<Stall> {
+    @Override
+    public int compare(Stall s1, Stall s2) {
+        requireAllNonNull(s1, s2);
+        return Double.compare(toSortKey(s1.getRatingStats()), toSortKey(s2.getRatingStats()));
+    }
+
+    private static double toSortKey(RatingStats stats) {
+        return stats.getCount() == 0 ? Double.NEGATIVE_INFINITY : (double) stats.getSum() / stats.getCount();
+    }
+
+    /**
+     * Returns true if both Comparators are the same.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        return other instanceof AverageRatingComparator;
+    }
+}
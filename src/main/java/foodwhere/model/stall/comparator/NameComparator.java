@@ -13,7 +13,7 @@ public class NameComparator implements Comparator<Stall> {
     @Override
     public int compare(Stall s1, Stall s2) {
         requireAllNonNull(s1, s2);
-        return s1.getName().fullName.compareToIgnoreCase(s2.getName().fullName);
+        return s1.getName().compareToIgnoreCase(s2.getName());
     }
 
     /**
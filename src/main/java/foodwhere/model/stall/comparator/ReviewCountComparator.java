@@ -0,0 +1,31 @@
+package foodwhere.model.stall.comparator;
+
+import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+
+import foodwhere.model.stall.Stall;
+
+/**
+ * Creates a comparator class {@code ReviewCountComparator} that compares the stall by its number of reviews,
+ * using the rating stats kept by the stall.
+ */
+public class ReviewCountComparator implements Comparator<Stall> {
+    @Override
+    public int compare(Stall s1, Stall s2) {
+        requireAllNonNull(s1, s2);
+        return Integer.compare(s1.getRatingStats().getCount(), s2.getRatingStats().getCount());
+    }
+
+    /**
+     * Returns true if both Comparators are the same.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        return other instanceof ReviewCountComparator;
+    }
+}
@@ -10,7 +10,11 @@ import foodwhere.model.stall.Stall;
 public enum StallsComparatorList {
 
     NAME("name (0 to 9, then A to Z)", new NameComparator()),
-    REVERSEDNAME("name (Z to A, then 9 to 0)", new NameComparator().reversed());
+    REVERSEDNAME("name (Z to A, then 9 to 0)", new NameComparator().reversed()),
+    RATING("average rating (Lowest to Highest, unreviewed first)", new AverageRatingComparator()),
+    REVERSEDRATING("average rating (Highest to Lowest, unreviewed last)", new AverageRatingComparator().reversed()),
+    REVIEWS("number of reviews (Fewest to Most)", new ReviewCountComparator()),
+    REVERSEDREVIEWS("number of reviews (Most to Fewest)", new ReviewCountComparator().reversed());
 
     public static final String MESSAGE_CONSTRAINTS = "See user guide for the supported criteria";
 
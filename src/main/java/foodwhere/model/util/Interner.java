@@ -0,0 +1,69 @@
+package foodwhere.model.util;
+
+import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Pools immutable values by their string keys, so that values with equal keys share one instance.
+ * Values are only weakly referenced by the pool, so a value that is no longer used elsewhere can be garbage
+ * collected, after which its entry is removed from the pool.
+ * Each value must keep its own key, so that the key stays reachable for as long as the value is.
+ *
+ * @param <T> Type of the values.
+ */
+public class Interner<T> {
+
+    private final Function<? super T, String> keyOf;
+    /** Maps the key of each pooled value to the value. Keys are the values' own key strings. */
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Constructs an empty {@code Interner}.
+     *
+     * @param keyOf Returns the key of a value. Values with equal keys must be interchangeable.
+     */
+    public Interner(Function<? super T, String> keyOf) {
+        requireNonNull(keyOf);
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns the pooled value with {@code key}, creating it with {@code factory} and pooling it if there is none.
+     *
+     * @param key Key of the value.
+     * @param factory Creates the value with {@code key}. Any exception it throws is passed on.
+     */
+    public synchronized T intern(String key, Function<String, ? extends T> factory) {
+        requireAllNonNull(key, factory);
+        T value = get(key);
+        if (value == null) {
+            value = factory.apply(key);
+            pool.put(keyOf.apply(value), new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the pooled value with the same key as {@code value}, pooling {@code value} itself if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        String key = keyOf.apply(value);
+        T pooled = get(key);
+        if (pooled != null) {
+            return pooled;
+        }
+        pool.put(key, new WeakReference<>(value));
+        return value;
+    }
+
+    private T get(String key) {
+        WeakReference<T> reference = pool.get(key);
+        return reference == null ? null : reference.get();
+    }
+}
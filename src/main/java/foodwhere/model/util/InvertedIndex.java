@@ -0,0 +1,74 @@
+package foodwhere.model.util;
+
+import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps each key to the set of values posted under it, so that the values having a key can be found without
+ * scanning all values.
+ * Keys with no values are removed, so the index only grows with the number of distinct keys in use.
+ *
+ * @param <K> Type of the keys, such as a {@code Tag}.
+ * @param <V> Type of the values posted under the keys.
+ */
+public class InvertedIndex<K, V> {
+
+    private final Map<K, Set<V>> postings = new HashMap<>();
+
+    /**
+     * Posts {@code value} under each of {@code keys}.
+     */
+    public void add(Collection<? extends K> keys, V value) {
+        requireAllNonNull(keys, value);
+        for (K key : keys) {
+            postings.computeIfAbsent(key, unused -> new HashSet<>()).add(value);
+        }
+    }
+
+    /**
+     * Removes {@code value} from the postings of each of {@code keys}.
+     */
+    public void remove(Collection<? extends K> keys, V value) {
+        requireAllNonNull(keys, value);
+        for (K key : keys) {
+            Set<V> values = postings.get(key);
+            if (values != null && values.remove(value) && values.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all postings.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the values posted under {@code key}.
+     */
+    public Set<V> get(K key) {
+        requireNonNull(key);
+        return Collections.unmodifiableSet(postings.getOrDefault(key, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the values posted under any of {@code keys}.
+     */
+    public Set<V> getAny(Collection<? extends K> keys) {
+        requireNonNull(keys);
+        Set<V> union = new HashSet<>();
+        for (K key : keys) {
+            union.addAll(postings.getOrDefault(key, Collections.emptySet()));
+        }
+        return union;
+    }
+}
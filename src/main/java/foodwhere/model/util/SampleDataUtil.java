@@ -27,13 +27,13 @@ public class SampleDataUtil {
      */
     public static Stall[] getSampleStalls() {
         return new Stall[] {
-            new Stall(new Name("Alex Chicken Rice"), new Address("Blk 30 Geylang Street 29, #06-40"),
+            new Stall(Name.of("Alex Chicken Rice"), Address.of("Blk 30 Geylang Street 29, #06-40"),
                     getTagSet("chickenrice")),
-            new Stall(new Name("Char Char Kuey Tiao"), new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
+            new Stall(Name.of("Char Char Kuey Tiao"), Address.of("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
                     getTagSet("charkwaytiao")),
-            new Stall(new Name("Yu Bak Chor Mee"), new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
+            new Stall(Name.of("Yu Bak Chor Mee"), Address.of("Blk 11 Ang Mo Kio Street 74, #11-04"),
                     getTagSet("bakchormee")),
-            new Stall(new Name("Irfan Muslim Food"), new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
+            new Stall(Name.of("Irfan Muslim Food"), Address.of("Blk 436 Serangoon Gardens Street 26, #16-43"),
                     getTagSet("family", "halal", "muslim"))
         };
     }
@@ -45,10 +45,10 @@ public class SampleDataUtil {
      */
     public static Review[] getSampleReviews() {
         return new Review[] {
-            new Review(new Name("Alex Chicken Rice"), new Address("Blk 30 Geylang Street 29, #06-40"),
+            new Review(Name.of("Alex Chicken Rice"), Address.of("Blk 30 Geylang Street 29, #06-40"),
                     new Date("20/09/2022"), new Content("Very tasty. Worth the trip"), new Rating("5"),
                     getTagSet("travelworthy")),
-            new Review(new Name("Irfan Muslim Food"), new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
+            new Review(Name.of("Irfan Muslim Food"), Address.of("Blk 436 Serangoon Gardens Street 26, #16-43"),
                     new Date("21/09/2022"), new Content("Very affordable"), new Rating("3"),
                     getTagSet("halal"))
         };
@@ -80,7 +80,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 }
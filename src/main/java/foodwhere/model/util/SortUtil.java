@@ -0,0 +1,40 @@
+package foodwhere.model.util;
+
+import static foodwhere.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Contains utility methods for sorting the lists of the model.
+ */
+public class SortUtil {
+
+    /**
+     * Minimum list size at which lists are sorted in parallel.
+     * Smaller lists are sorted faster on a single thread.
+     */
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private SortUtil() {}
+
+    /**
+     * Sorts {@code list} by {@code comparator}, stably and with a single change to the list.
+     * Lists of at least {@link #PARALLEL_SORT_THRESHOLD} items are sorted in parallel, so {@code comparator} must
+     * not depend on any mutable state.
+     */
+    public static <T> void sort(ObservableList<T> list, Comparator<? super T> comparator) {
+        requireAllNonNull(list, comparator);
+        if (list.size() < PARALLEL_SORT_THRESHOLD) {
+            list.sort(comparator);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        T[] items = (T[]) list.toArray();
+        Arrays.parallelSort(items, comparator);
+        list.setAll(items);
+    }
+}
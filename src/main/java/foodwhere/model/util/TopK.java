@@ -0,0 +1,62 @@
+package foodwhere.model.util;
+
+import static foodwhere.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Selects the first few of the items offered to it in the order of a comparator, without sorting all the items.
+ * Only the items selected so far are kept in a bounded heap, so selecting k of n items takes O(n log k) time and
+ * O(k) space, and the items never need to be copied into a list to be sorted.
+ *
+ * @param <T> Type of the items.
+ */
+public class TopK<T> {
+
+    private final Comparator<? super T> ranking;
+    private final int k;
+    /** Items selected so far, with the last ranked of them at the head. */
+    private final PriorityQueue<T> selected;
+
+    /**
+     * Constructs a {@code TopK} selecting at most {@code k} items.
+     *
+     * @param ranking Order of the items, where the item to be selected first comes first.
+     * @param k Maximum number of items to select, which must be positive.
+     */
+    public TopK(Comparator<? super T> ranking, int k) {
+        requireNonNull(ranking);
+        checkArgument(k > 0, "Number of items to select should be positive");
+        this.ranking = ranking;
+        this.k = k;
+        this.selected = new PriorityQueue<>(Collections.reverseOrder(ranking));
+    }
+
+    /**
+     * Offers {@code item} for selection. It is kept if it ranks before one of the {@code k} items selected so far,
+     * which is then dropped.
+     */
+    public void offer(T item) {
+        requireNonNull(item);
+        if (selected.size() < k) {
+            selected.add(item);
+        } else if (ranking.compare(item, selected.peek()) < 0) {
+            selected.poll();
+            selected.add(item);
+        }
+    }
+
+    /**
+     * Returns the items selected, in the order of the ranking.
+     */
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(selected);
+        result.sort(ranking);
+        return result;
+    }
+}
@@ -0,0 +1,337 @@
+package foodwhere.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import foodwhere.commons.core.LogsCenter;
+import foodwhere.commons.exceptions.DataConversionException;
+import foodwhere.commons.exceptions.IllegalValueException;
+import foodwhere.commons.util.FileUtil;
+import foodwhere.commons.util.JsonUtil;
+import foodwhere.model.AddressBook;
+import foodwhere.model.AddressBookChange;
+import foodwhere.model.ReadOnlyAddressBook;
+import foodwhere.model.review.ReviewSet;
+import foodwhere.model.stall.Stall;
+
+/**
+ * A class to access FoodWhere data stored as a json snapshot file and a journal of later changes.
+ * Each save appends one line per changed stall or review to the journal, instead of rewriting the whole snapshot.
+ * The changes are taken from the {@link AddressBookChange}s recorded by the address book since the last save, so a
+ * save takes time proportional to the number of changes rather than the number of stalls.
+ * The journal is compacted into a new snapshot once it grows past a size threshold.
+ * The snapshot has the same format as the file used by {@link JsonAddressBookStorage}.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** Default journal size, in bytes, above which the journal is compacted into a new snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    public static final String COMPACTION_FILE_SUFFIX = ".compacting";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final Path compactionFilePath;
+    private final long compactionThreshold;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    /** The stalls as they were read from disk, or null if they have been saved since or the stored data is unknown. */
+    private List<Stall> savedStalls;
+    /** The last change stored on disk, or null if the stored data is unknown or was read from disk. */
+    private AddressBookChange savedChange;
+    private long journalSize;
+
+    /**
+     * Constructs a {@code JournaledAddressBookStorage} with the default compaction threshold.
+     *
+     * @param filePath Location of the snapshot file.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code JournaledAddressBookStorage}.
+     *
+     * @param filePath Location of the snapshot file.
+     * @param compactionThreshold Journal size, in bytes, above which the journal is compacted.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * Constructs a {@code JournaledAddressBookStorage}.
+     *
+     * @param filePath Location of the snapshot file.
+     * @param compactionThreshold Journal size, in bytes, above which the journal is compacted.
+     * @param isCompact Whether to write snapshots without indentation and line breaks.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold, boolean isCompact) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactionFilePath = filePath.resolveSibling(filePath.getFileName() + COMPACTION_FILE_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, isCompact);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal file.
+     */
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading from the file path of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        savedStalls = null;
+        savedChange = null;
+        finishInterruptedCompaction();
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!Files.exists(journalFilePath)) {
+            journalSize = 0;
+            snapshot.ifPresent(addressBook -> savedStalls = new ArrayList<>(addressBook.getStallList()));
+            return snapshot;
+        }
+
+        AddressBook addressBook = snapshot.map(AddressBook::new).orElseGet(AddressBook::new);
+        replayJournal(addressBook);
+        journalSize = Files.size(journalFilePath);
+        savedStalls = new ArrayList<>(addressBook.getStallList());
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Completes or discards a compaction that was interrupted, leaving the snapshot and journal as they would be
+     * after a compaction that either finished or never started.
+     * The journal always exists while the new snapshot is being written, and is deleted once it has been written
+     * in full, so a new snapshot without a journal is complete.
+     */
+    private void finishInterruptedCompaction() throws IOException {
+        if (!Files.exists(compactionFilePath)) {
+            return;
+        }
+
+        if (Files.exists(journalFilePath)) {
+            logger.warning("Discarding incomplete compaction " + compactionFilePath);
+            Files.delete(compactionFilePath);
+        } else {
+            logger.warning("Finishing interrupted compaction " + compactionFilePath);
+            replaceSnapshot();
+        }
+    }
+
+    /**
+     * Applies every entry in the journal to {@code addressBook}, in order.
+     * An unterminated last line is left over from an interrupted save, and is skipped if it cannot be read.
+     */
+    private void replayJournal(AddressBook addressBook) throws DataConversionException, IOException {
+        String journal = FileUtil.readFromFile(journalFilePath);
+        String[] lines = journal.split("\n", -1);
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+
+            boolean isLastLineUnterminated = i == lines.length - 1;
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (isLastLineUnterminated) {
+                    logger.warning("Skipping incomplete last entry of " + journalFilePath);
+                    break;
+                }
+                logger.warning("Error reading entry " + (i + 1) + " of " + journalFilePath + ": " + e);
+                throw new DataConversionException(e);
+            }
+
+            try {
+                entry.applyTo(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in entry " + (i + 1) + " of " + journalFilePath + ": "
+                        + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the file path of this storage are journaled; other paths receive a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        Optional<AddressBookChange> lastChange = addressBook.getLastChange();
+        Optional<List<JsonAdaptedJournalEntry>> entries = lastChange.flatMap(this::getJournalEntries);
+        savedStalls = null;
+        savedChange = null;
+
+        if (entries.isPresent() && journalSize < compactionThreshold) {
+            appendToJournal(entries.get());
+        }
+        if (!entries.isPresent() || journalSize >= compactionThreshold) {
+            compact(addressBook);
+        }
+        savedChange = lastChange.orElse(null);
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+
+        FileUtil.createIfMissing(journalFilePath);
+        Files.write(journalFilePath, bytes, StandardOpenOption.APPEND);
+        journalSize += bytes.length;
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot and empties the journal.
+     * The new snapshot is written to a separate file while the journal still exists, then the journal is deleted and
+     * the new snapshot replaces the old one. If this is interrupted, {@link #finishInterruptedCompaction()} either
+     * discards the new snapshot, if the journal still exists, or finishes replacing the old snapshot.
+     * The journal is therefore never replayed on top of a snapshot that already contains its changes.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting journal " + journalFilePath + " into " + filePath);
+        FileUtil.createIfMissing(journalFilePath);
+        snapshotStorage.saveAddressBook(addressBook, compactionFilePath);
+        Files.delete(journalFilePath);
+        journalSize = 0;
+        replaceSnapshot();
+    }
+
+    private void replaceSnapshot() throws IOException {
+        try {
+            Files.move(compactionFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(compactionFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the journal entries that apply the changes up to {@code lastChange} to the stored data,
+     * or {@code Optional.empty()} if the stored data is unknown, or some of the changes since it was stored are
+     * no longer linked to {@code lastChange} or reset the whole stall list.
+     * Only the changes made since the last save are visited.
+     */
+    private Optional<List<JsonAdaptedJournalEntry>> getJournalEntries(AddressBookChange lastChange) {
+        Deque<AddressBookChange> changes = new ArrayDeque<>();
+        Optional<AddressBookChange> change = Optional.of(lastChange);
+        while (change.isPresent() && change.get() != savedChange) {
+            if (change.get().isReset()) {
+                // the stall list read from disk is reset into the address book that is later saved
+                if (savedStalls == null || !change.get().getStalls().get().equals(savedStalls)) {
+                    return Optional.empty();
+                }
+                break;
+            }
+            changes.push(change.get());
+            change = change.get().getPrevious();
+        }
+        if (!change.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (AddressBookChange stallChange : changes) {
+            addStallChanges(stallChange.getOldStall(), stallChange.getNewStall(), entries);
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * Adds the journal entries that replace {@code oldStall} with {@code newStall} to {@code entries}.
+     * Changes to the reviews of a stall only are recorded review by review.
+     */
+    private static void addStallChanges(Optional<Stall> oldStall, Optional<Stall> newStall,
+            List<JsonAdaptedJournalEntry> entries) {
+        if (!oldStall.isPresent()) {
+            entries.add(JsonAdaptedJournalEntry.addStall(newStall.get()));
+            return;
+        }
+        if (!newStall.isPresent()) {
+            entries.add(JsonAdaptedJournalEntry.deleteStall(oldStall.get()));
+            return;
+        }
+
+        Stall target = oldStall.get();
+        Stall editedStall = newStall.get();
+        boolean isOnlyReviewsChanged = target.getName().fullName.equals(editedStall.getName().fullName)
+                && target.getAddress().value.equals(editedStall.getAddress().value)
+                && target.getTags().equals(editedStall.getTags());
+        if (!isOnlyReviewsChanged) {
+            entries.add(JsonAdaptedJournalEntry.editStall(target, editedStall));
+            return;
+        }
+
+        ReviewSet.diff(target.getReviews(), editedStall.getReviews(),
+                review -> entries.add(JsonAdaptedJournalEntry.deleteReview(review)),
+                review -> entries.add(JsonAdaptedJournalEntry.addReview(review)));
+    }
+}
@@ -0,0 +1,191 @@
+package foodwhere.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import foodwhere.commons.exceptions.IllegalValueException;
+import foodwhere.model.AddressBook;
+import foodwhere.model.review.Review;
+import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallIdentity;
+import foodwhere.model.stall.exceptions.DuplicateStallException;
+
+/**
+ * Jackson-friendly record of a single change to the stalls or reviews of an address book.
+ * Entries are only valid when applied in order to the snapshot the journal was started from.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_MISSING_STALL = "Journal entry refers to a stall that does not exist: %s";
+    public static final String MESSAGE_DUPLICATE_STALL = "Journal entry would create a duplicate stall: %s";
+    public static final String MESSAGE_MISSING_REVIEW = "Journal entry refers to a review that does not exist: %s";
+    public static final String MESSAGE_DUPLICATE_REVIEW = "Journal entry would create a duplicate review: %s";
+
+    /**
+     * Kinds of changes recorded in the journal.
+     */
+    enum Operation {
+        ADD_STALL, EDIT_STALL, DELETE_STALL, ADD_REVIEW, DELETE_REVIEW
+    }
+
+    private final Operation operation;
+    private final String name;
+    private final String address;
+    private final JsonAdaptedStall stall;
+    private final JsonAdaptedReview review;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     * {@code name} and {@code address} identify the stall that is changed.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") Operation operation,
+                                   @JsonProperty("name") String name,
+                                   @JsonProperty("address") String address,
+                                   @JsonProperty("stall") JsonAdaptedStall stall,
+                                   @JsonProperty("review") JsonAdaptedReview review) {
+        this.operation = operation;
+        this.name = name;
+        this.address = address;
+        this.stall = stall;
+        this.review = review;
+    }
+
+    /**
+     * Returns an entry recording that {@code stall} was added.
+     */
+    public static JsonAdaptedJournalEntry addStall(Stall stall) {
+        return new JsonAdaptedJournalEntry(Operation.ADD_STALL, null, null, new JsonAdaptedStall(stall), null);
+    }
+
+    /**
+     * Returns an entry recording that {@code target} was replaced by {@code editedStall}.
+     */
+    public static JsonAdaptedJournalEntry editStall(Stall target, Stall editedStall) {
+        return new JsonAdaptedJournalEntry(Operation.EDIT_STALL, target.getName().fullName,
+                target.getAddress().value, new JsonAdaptedStall(editedStall), null);
+    }
+
+    /**
+     * Returns an entry recording that {@code stall} was deleted.
+     */
+    public static JsonAdaptedJournalEntry deleteStall(Stall stall) {
+        return new JsonAdaptedJournalEntry(Operation.DELETE_STALL, stall.getName().fullName,
+                stall.getAddress().value, null, null);
+    }
+
+    /**
+     * Returns an entry recording that {@code review} was added to its stall.
+     */
+    public static JsonAdaptedJournalEntry addReview(Review review) {
+        return new JsonAdaptedJournalEntry(Operation.ADD_REVIEW, review.getName().fullName,
+                review.getAddress().value, null, new JsonAdaptedReview(review));
+    }
+
+    /**
+     * Returns an entry recording that {@code review} was deleted from its stall.
+     */
+    public static JsonAdaptedJournalEntry deleteReview(Review review) {
+        return new JsonAdaptedJournalEntry(Operation.DELETE_REVIEW, review.getName().fullName,
+                review.getAddress().value, null, new JsonAdaptedReview(review));
+    }
+
+    /**
+     * Applies the change recorded by this entry to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry,
+     *     or the change cannot be applied to {@code addressBook} as recorded, which means that the journal does
+     *     not belong to the snapshot it is applied to.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        requireNonNull(addressBook);
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+
+        switch (operation) {
+        case ADD_STALL:
+            Stall stallToAdd = getModelStall();
+            if (addressBook.findStall(stallToAdd.getIdentity()).isPresent()) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_STALL, stallToAdd.getIdentity()));
+            }
+            addressBook.addStall(stallToAdd);
+            break;
+        case EDIT_STALL:
+            Stall editedStall = getModelStall();
+            try {
+                addressBook.setStall(getExistingStall(addressBook), editedStall);
+            } catch (DuplicateStallException e) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_STALL, editedStall.getIdentity()));
+            }
+            break;
+        case DELETE_STALL:
+            addressBook.removeStall(getExistingStall(addressBook));
+            break;
+        case ADD_REVIEW:
+            Review reviewToAdd = getModelReview();
+            getExistingStall(addressBook);
+            if (addressBook.hasReview(reviewToAdd)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_REVIEW, reviewToAdd));
+            }
+            addressBook.addReview(reviewToAdd);
+            break;
+        case DELETE_REVIEW:
+            Review reviewToDelete = getModelReview();
+            if (!addressBook.hasReview(reviewToDelete)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_REVIEW, reviewToDelete));
+            }
+            addressBook.removeReview(reviewToDelete);
+            break;
+        default:
+            throw new AssertionError("Unknown journal operation: " + operation);
+        }
+    }
+
+    /**
+     * Returns the stall in {@code addressBook} identified by {@code name} and {@code address}.
+     *
+     * @throws IllegalValueException if there is no such stall.
+     */
+    private Stall getExistingStall(AddressBook addressBook) throws IllegalValueException {
+        StallIdentity identity = getTargetIdentity();
+        Optional<Stall> existingStall = addressBook.findStall(identity);
+        if (!existingStall.isPresent()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_STALL, identity));
+        }
+        return existingStall.get();
+    }
+
+    private Stall getModelStall() throws IllegalValueException {
+        if (stall == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "stall"));
+        }
+        return stall.toModelType();
+    }
+
+    /**
+     * Returns the stall identified by {@code name} and {@code address}, without its tags and reviews.
+     */
+    private Stall getTargetStall() throws IllegalValueException {
+        return new JsonAdaptedStall(name, address, null, null).toModelType();
+    }
+
+    private StallIdentity getTargetIdentity() throws IllegalValueException {
+        return getTargetStall().getIdentity();
+    }
+
+    private Review getModelReview() throws IllegalValueException {
+        if (review == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "review"));
+        }
+        Stall targetStall = getTargetStall();
+        return review.toModelType(targetStall.getName(), targetStall.getAddress());
+    }
+}
@@ -83,7 +83,7 @@ class JsonAdaptedStall {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.of(address);
 
         final Set<Tag> modelTags = new HashSet<>(stallTags);
 
@@ -109,7 +109,7 @@ class JsonAdaptedStall {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelStallAddress = new Address(address);
+        final Address modelStallAddress = Address.of(address);
 
         for (JsonAdaptedReview review : reviews) {
             modelReviews.add(review.toModelType(modelStallName, modelStallAddress));
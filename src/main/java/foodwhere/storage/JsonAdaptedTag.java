@@ -42,7 +42,7 @@ class JsonAdaptedTag {
         if (!Tag.isValidTag(tag)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tag);
+        return Tag.of(tag);
     }
 
 }
@@ -0,0 +1,232 @@
+package foodwhere.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import foodwhere.commons.exceptions.DataConversionException;
+import foodwhere.commons.exceptions.IllegalValueException;
+import foodwhere.model.AddressBook;
+import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallIdentity;
+
+/**
+ * Reads an address book from a file in the format of {@link JsonSerializableAddressBook}.
+ * The file is read token by token, and each stall is converted into a {@code Stall} as soon as it has been read,
+ * so neither the whole file nor an adapted object graph of all stalls is held in memory.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_INVALID_VALUE_LOCATION = "Invalid value at line %d, column %d: %s";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Reads the address book in {@code filePath}.
+     *
+     * @throws DataConversionException if the file is not in the correct format, or if there were any data
+     *     constraints violated. In the latter case the cause is an {@code IllegalValueException}.
+     */
+    public AddressBook read(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        try (JsonParser parser = JSON_FACTORY.createParser(filePath.toFile())) {
+            return readAddressBook(parser);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private AddressBook readAddressBook(JsonParser parser) throws IOException, DataConversionException {
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+        List<Stall> stalls = new ArrayList<>();
+        Set<StallIdentity> stallIdentities = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (!fieldName.equals("stalls")) {
+                parser.skipChildren();
+                continue;
+            }
+
+            expectToken(parser, token, JsonToken.START_ARRAY);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonLocation location = parser.getTokenLocation();
+                Stall stall = toModelType(readStall(parser), location);
+                if (!stallIdentities.add(stall.getIdentity())) {
+                    throw invalidValue(new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STALL),
+                            location);
+                }
+                stalls.add(stall);
+            }
+        }
+        return new AddressBook(stalls);
+    }
+
+    private static Stall toModelType(JsonAdaptedStall stall, JsonLocation location) throws DataConversionException {
+        try {
+            return stall.toModelType();
+        } catch (IllegalValueException ive) {
+            throw invalidValue(ive, location);
+        }
+    }
+
+    private static DataConversionException invalidValue(IllegalValueException ive, JsonLocation location) {
+        return new DataConversionException(String.format(MESSAGE_INVALID_VALUE_LOCATION,
+                location.getLineNr(), location.getColumnNr(), ive.getMessage()), ive);
+    }
+
+    /**
+     * Reads the stall object starting at the current token.
+     */
+    private static JsonAdaptedStall readStall(JsonParser parser) throws IOException {
+        expectToken(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+
+        String name = null;
+        String address = null;
+        List<JsonAdaptedTag> tags = null;
+        List<JsonAdaptedReview> reviews = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+            case "name":
+                name = readString(parser, token);
+                break;
+            case "address":
+                address = readString(parser, token);
+                break;
+            case "tags":
+                tags = readTags(parser, token);
+                break;
+            case "reviews":
+                reviews = readReviews(parser, token);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new JsonAdaptedStall(name, address, tags, reviews);
+    }
+
+    /**
+     * Reads the array of review objects starting at the current token.
+     */
+    private static List<JsonAdaptedReview> readReviews(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectToken(parser, token, JsonToken.START_ARRAY);
+
+        List<JsonAdaptedReview> reviews = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            reviews.add(readReview(parser));
+        }
+        return reviews;
+    }
+
+    /**
+     * Reads the review object starting at the current token.
+     */
+    private static JsonAdaptedReview readReview(JsonParser parser) throws IOException {
+        expectToken(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+
+        String date = null;
+        String content = null;
+        Integer rating = null;
+        List<JsonAdaptedTag> tags = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+            case "date":
+                date = readString(parser, token);
+                break;
+            case "content":
+                content = readString(parser, token);
+                break;
+            case "rating":
+                rating = readInteger(parser, token);
+                break;
+            case "tags":
+                tags = readTags(parser, token);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new JsonAdaptedReview(date, content, rating, tags);
+    }
+
+    /**
+     * Reads the array of tag strings starting at the current token.
+     */
+    private static List<JsonAdaptedTag> readTags(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectToken(parser, token, JsonToken.START_ARRAY);
+
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (JsonToken tagToken = parser.nextToken(); tagToken != JsonToken.END_ARRAY; tagToken = parser.nextToken()) {
+            tags.add(new JsonAdaptedTag(readString(parser, tagToken)));
+        }
+        return tags;
+    }
+
+    /**
+     * Reads the scalar value at the current token as a string.
+     */
+    private static String readString(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a text value but found " + token);
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Reads the number, or the string containing a number, at the current token.
+     */
+    private static Integer readInteger(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+        case VALUE_NULL:
+            return null;
+        case VALUE_NUMBER_INT:
+        case VALUE_NUMBER_FLOAT:
+            return parser.getIntValue();
+        case VALUE_STRING:
+            String text = parser.getText().trim();
+            if (text.isEmpty()) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(text);
+            } catch (NumberFormatException e) {
+                throw new JsonParseException(parser, "Expected an integer but found \"" + text + "\"");
+            }
+        default:
+            throw new JsonParseException(parser, "Expected an integer but found " + token);
+        }
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -3,15 +3,14 @@ package foodwhere.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import foodwhere.commons.core.LogsCenter;
 import foodwhere.commons.exceptions.DataConversionException;
-import foodwhere.commons.exceptions.IllegalValueException;
 import foodwhere.commons.util.FileUtil;
-import foodwhere.commons.util.JsonUtil;
 import foodwhere.model.ReadOnlyAddressBook;
 
 /**
@@ -22,9 +21,21 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final JsonAddressBookReader reader = new JsonAddressBookReader();
+    private final JsonAddressBookWriter writer;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isCompact Whether to write the file without indentation and line breaks.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        writer = new JsonAddressBookWriter(isCompact);
     }
 
     public Path getAddressBookFilePath() {
@@ -45,17 +56,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+            return Optional.of(reader.read(filePath));
+        } catch (DataConversionException e) {
+            logger.info("Error reading from " + filePath + ": " + e.getMessage());
+            throw e;
         }
     }
 
@@ -74,7 +84,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        writer.write(addressBook, filePath);
     }
 
 }
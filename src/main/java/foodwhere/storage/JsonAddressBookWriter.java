@@ -0,0 +1,100 @@
+package foodwhere.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import foodwhere.model.ReadOnlyAddressBook;
+import foodwhere.model.commons.Tag;
+import foodwhere.model.review.Review;
+import foodwhere.model.stall.Stall;
+
+/**
+ * Writes an address book to a file in the format of {@link JsonSerializableAddressBook}.
+ * Stalls and reviews are streamed to the file as they are visited, without building an intermediate
+ * {@code JsonAdaptedStall} graph or a string of the whole document.
+ */
+class JsonAddressBookWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final boolean isCompact;
+
+    /**
+     * Constructs a {@code JsonAddressBookWriter}.
+     *
+     * @param isCompact Whether to write the file without indentation and line breaks.
+     */
+    JsonAddressBookWriter(boolean isCompact) {
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, overwriting the file if it exists.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        try (OutputStream out = Files.newOutputStream(filePath);
+                JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("stalls");
+            for (Stall stall : addressBook.getStallList()) {
+                writeStall(generator, stall);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code stall} with the same fields as {@link JsonAdaptedStall}.
+     */
+    private static void writeStall(JsonGenerator generator, Stall stall) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", stall.getName().fullName);
+        generator.writeStringField("address", stall.getAddress().value);
+        writeTags(generator, stall.getTags());
+        generator.writeArrayFieldStart("reviews");
+        for (Review review : stall.getReviews()) {
+            writeReview(generator, review);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code review} with the same fields as {@link JsonAdaptedReview}.
+     */
+    private static void writeReview(JsonGenerator generator, Review review) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("date", review.getDate().value);
+        generator.writeStringField("content", review.getContent().value);
+        generator.writeNumberField("rating", review.getRating().value);
+        writeTags(generator, review.getTags());
+        generator.writeEndObject();
+    }
+
+    private static void writeTags(JsonGenerator generator, Set<Tag> tags) throws IOException {
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : tags) {
+            generator.writeString(tag.tag);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -1,7 +1,9 @@
 package foodwhere.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,6 +14,7 @@ import foodwhere.commons.exceptions.IllegalValueException;
 import foodwhere.model.AddressBook;
 import foodwhere.model.ReadOnlyAddressBook;
 import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallIdentity;
 
 /**
  * An immutable AddressBook in FoodWhere that is serializable to JSON format.
@@ -49,15 +52,16 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Stall> modelStalls = new ArrayList<>(stalls.size());
+        Set<StallIdentity> stallIdentities = new HashSet<>();
         for (JsonAdaptedStall jsonAdaptedStall : stalls) {
             Stall stall = jsonAdaptedStall.toModelType();
-            if (addressBook.hasStall(stall)) {
+            if (!stallIdentities.add(stall.getIdentity())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_STALL);
             }
-            addressBook.addStall(stall);
+            modelStalls.add(stall);
         }
-        return addressBook;
+        return new AddressBook(modelStalls);
     }
 
 }
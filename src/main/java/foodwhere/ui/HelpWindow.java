@@ -6,6 +6,7 @@ import foodwhere.commons.core.LogsCenter;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
 import javafx.stage.Stage;
@@ -41,6 +42,8 @@ public class HelpWindow extends UiPart<Stage> {
     private Label copyContent;
     @FXML
     private Label userGuideTitle;
+    @FXML
+    private ImageView clipboardImage;
 
     /**
      * Creates a new HelpWindow.
@@ -54,6 +57,8 @@ public class HelpWindow extends UiPart<Stage> {
         copyTitle.setText(CLIPBOARD_TITLE);
         copyContent.setText(CLIPBOARD_CONTENT);
         userGuideTitle.setText(USERGUIDE_TITLE);
+        root.getIcons().add(ImageRegistry.getImage(ImageRegistry.ICON_HELP));
+        clipboardImage.setImage(ImageRegistry.getImage(ImageRegistry.IMAGE_CLIPBOARD));
     }
 
     /**
@@ -0,0 +1,58 @@
+package foodwhere.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import foodwhere.commons.util.AppUtil;
+import foodwhere.model.review.Rating;
+import javafx.scene.image.Image;
+
+/**
+ * A process-wide registry of the images displayed by the UI.
+ * Each image is decoded once, on first use or by {@link #preload()}, and the same {@code Image} is shared by
+ * every component that displays it.
+ */
+public class ImageRegistry {
+
+    public static final String ICON_APPLICATION = "/images/food-where_icon.png";
+    public static final String ICON_HELP = "/images/help_icon.png";
+    public static final String IMAGE_CLIPBOARD = "/images/clipboard.png";
+
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+
+    private ImageRegistry() {} // prevents instantiation
+
+    /**
+     * Returns the image at {@code imagePath}, decoding it if it has not been used before.
+     */
+    public static Image getImage(String imagePath) {
+        requireNonNull(imagePath);
+        return images.computeIfAbsent(imagePath, AppUtil::getImage);
+    }
+
+    /**
+     * Returns the star icon showing {@code rating}.
+     *
+     * @throws RuntimeException if {@code rating} is not a valid rating.
+     */
+    public static Image getRatingIcon(int rating) {
+        if (rating < Rating.MIN_RATING || rating > Rating.MAX_RATING) {
+            throw new RuntimeException("Invalid rating");
+        }
+        return getImage("/images/stars_" + rating + ".png");
+    }
+
+    /**
+     * Decodes all images that are displayed repeatedly, so that they are ready before the UI is shown.
+     */
+    public static void preload() {
+        getImage(ICON_APPLICATION);
+        getImage(ICON_HELP);
+        getImage(IMAGE_CLIPBOARD);
+        for (int rating = Rating.MIN_RATING; rating <= Rating.MAX_RATING; rating++) {
+            getRatingIcon(rating);
+        }
+    }
+}
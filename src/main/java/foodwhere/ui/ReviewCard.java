@@ -1,16 +1,14 @@
 package foodwhere.ui;
 
-import java.util.Objects;
-
 import foodwhere.model.review.Review;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.RowConstraints;
 
 /**
  * An UI component that displays information of a {@code Review}.
@@ -27,7 +25,10 @@ public class ReviewCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Review review;
+    private Review review;
+    private final RowConstraints tagsRow;
+    private final double tagsRowMinHeight;
+    private final double tagsRowPrefHeight;
 
     @FXML
     private GridPane gridPane;
@@ -57,6 +58,17 @@ public class ReviewCard extends UiPart<Region> {
      */
     public ReviewCard(Review review, int displayedIndex) {
         super(FXML);
+        tagsRow = gridPane.getRowConstraints().get(getRowIndexAsInteger(tagsLabel));
+        tagsRowMinHeight = tagsRow.getMinHeight();
+        tagsRowPrefHeight = tagsRow.getPrefHeight();
+        setReview(review, displayedIndex);
+    }
+
+    /**
+     * Displays {@code review} with the given index in place of the review currently displayed.
+     * This allows a list cell to reuse its card instead of loading a new one.
+     */
+    public void setReview(Review review, int displayedIndex) {
         this.review = review;
         id.setText(displayedIndex + ". ");
         address.setText(review.getAddress().value);
@@ -69,48 +81,34 @@ public class ReviewCard extends UiPart<Region> {
         if (!review.getTags().isEmpty()) {
             tags.setText(review.getTagString());
             tagsLabel.setText("Tags:");
+            setTagsRowShown(true);
         } else {
-            removeRow(gridPane, GridPane.getRowIndex(tagsLabel));
+            tags.setText("");
+            setTagsRowShown(false);
         }
     }
 
+    public Review getReview() {
+        return review;
+    }
+
+    /**
+     * Shows or collapses the row containing the tags.
+     */
+    private void setTagsRowShown(boolean isShown) {
+        tagsLabel.setVisible(isShown);
+        tagsLabel.setManaged(isShown);
+        tags.setVisible(isShown);
+        tags.setManaged(isShown);
+        tagsRow.setMinHeight(isShown ? tagsRowMinHeight : 0);
+        tagsRow.setPrefHeight(isShown ? tagsRowPrefHeight : 0);
+    }
+
     /**
      * Sets the image of ratingIcon {@code ImageView} and the text of ratings {@code Label}.
      */
     private void setRatingIcon() {
-        Image ratingIconImage;
-
-        Integer val = review.getRating().value;
-        switch (val) {
-        case 0:
-            ratingIconImage = new Image(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/images/stars_0.png")));
-            break;
-        case 1:
-            ratingIconImage = new Image(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/images/stars_1.png")));
-            break;
-        case 2:
-            ratingIconImage = new Image(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/images/stars_2.png")));
-            break;
-        case 3:
-            ratingIconImage = new Image(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/images/stars_3.png")));
-            break;
-        case 4:
-            ratingIconImage = new Image(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/images/stars_4.png")));
-            break;
-        case 5:
-            ratingIconImage = new Image(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/images/stars_5.png")));
-            break;
-        default:
-            throw new RuntimeException("Invalid rating");
-        }
-
-        ratingIcon.setImage(ratingIconImage);
+        ratingIcon.setImage(ImageRegistry.getRatingIcon(review.getRating().value));
     }
 
     //@@author hikoya-reused
@@ -130,36 +128,6 @@ public class ReviewCard extends UiPart<Region> {
     }
     //@@author hikoya
 
-    //@@author hikoya-reused
-    /**
-     * Adapted from https://stackoverflow.com/a/70961583.
-     * Removes row from grid pane by index.
-     *
-     * @param grid Grid pane to be affected
-     * @param targetRowIndexIntegerObject Target row index to be removed. Integer object type,
-     *                                    because for some reason `getRowIndex` returns null
-     *                                    for children at 0th row.
-     */
-    private void removeRow(GridPane grid, Integer targetRowIndexIntegerObject) {
-        int targetRowIndex = targetRowIndexIntegerObject == null ? 3 : targetRowIndexIntegerObject;
-
-        // Remove children from row
-        grid.getChildren().removeIf(node -> (getRowIndexAsInteger(node) == targetRowIndex));
-
-        // Update indexes of other rows, i.e., shift rows up
-        grid.getChildren().forEach(node -> {
-            int rowIndex = getRowIndexAsInteger(node);
-
-            if (targetRowIndex < rowIndex) {
-                GridPane.setRowIndex(node, rowIndex - 1);
-            }
-        });
-
-        // Remove row constraints
-        grid.getRowConstraints().remove(targetRowIndex);
-    }
-    //@@author
-
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
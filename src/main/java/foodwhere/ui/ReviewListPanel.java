@@ -77,6 +77,8 @@ public class ReviewListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Review} using a {@code ReviewCard}.
      */
     class ReviewListViewCell extends ListCell<Review> {
+        private ReviewCard reviewCard;
+
         @Override
         protected void updateItem(Review review, boolean empty) {
             super.updateItem(review, empty);
@@ -85,7 +87,12 @@ public class ReviewListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ReviewCard(review, getIndex() + 1).getRoot());
+                if (reviewCard == null) {
+                    reviewCard = new ReviewCard(review, getIndex() + 1);
+                } else {
+                    reviewCard.setReview(review, getIndex() + 1);
+                }
+                setGraphic(reviewCard.getRoot());
             }
         }
     }
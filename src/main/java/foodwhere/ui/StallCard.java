@@ -1,5 +1,6 @@
 package foodwhere.ui;
 
+import foodwhere.model.stall.RatingStats;
 import foodwhere.model.stall.Stall;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -7,6 +8,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.RowConstraints;
 
 /**
  * An UI component that displays information of a {@code Stall}.
@@ -14,6 +16,8 @@ import javafx.scene.layout.Region;
 public class StallCard extends UiPart<Region> {
 
     private static final String FXML = "StallListCard.fxml";
+    private static final String RATING_FORMAT = "%1$.1f / 5 (%2$d %3$s)";
+    private static final String NO_REVIEWS = "No reviews yet";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -23,7 +27,10 @@ public class StallCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Stall stall;
+    private Stall stall;
+    private final RowConstraints tagsRow;
+    private final double tagsRowMinHeight;
+    private final double tagsRowPrefHeight;
 
     @FXML
     private GridPane gridPane;
@@ -36,6 +43,8 @@ public class StallCard extends UiPart<Region> {
     @FXML
     private Label address;
     @FXML
+    private Label rating;
+    @FXML
     private Label tags;
     @FXML
     private Label tagsLabel;
@@ -45,17 +54,59 @@ public class StallCard extends UiPart<Region> {
      */
     public StallCard(Stall stall, int displayedIndex) {
         super(FXML);
+        tagsRow = gridPane.getRowConstraints().get(getRowIndexAsInteger(tagsLabel));
+        tagsRowMinHeight = tagsRow.getMinHeight();
+        tagsRowPrefHeight = tagsRow.getPrefHeight();
+        setStall(stall, displayedIndex);
+    }
+
+    /**
+     * Displays {@code stall} with the given index in place of the stall currently displayed.
+     * This allows a list cell to reuse its card instead of loading a new one.
+     */
+    public void setStall(Stall stall, int displayedIndex) {
         this.stall = stall;
         id.setText(displayedIndex + ". ");
         name.setText(stall.getName().fullName);
         address.setText(stall.getAddress().value);
+        rating.setText(formatRating(stall.getRatingStats()));
 
         if (!stall.getTags().isEmpty()) {
             tags.setText(stall.getTagString());
             tagsLabel.setText("Tags:");
+            setTagsRowShown(true);
         } else {
-            removeRow(gridPane, GridPane.getRowIndex(tagsLabel));
+            tags.setText("");
+            setTagsRowShown(false);
+        }
+    }
+
+    /**
+     * Returns the average rating and number of reviews in {@code stats}, which are kept up to date by the stall,
+     * so no reviews are visited.
+     */
+    private static String formatRating(RatingStats stats) {
+        if (stats.getCount() == 0) {
+            return NO_REVIEWS;
         }
+        return String.format(RATING_FORMAT, stats.getAverage().getAsDouble(), stats.getCount(),
+                stats.getCount() == 1 ? "review" : "reviews");
+    }
+
+    public Stall getStall() {
+        return stall;
+    }
+
+    /**
+     * Shows or collapses the row containing the tags.
+     */
+    private void setTagsRowShown(boolean isShown) {
+        tagsLabel.setVisible(isShown);
+        tagsLabel.setManaged(isShown);
+        tags.setVisible(isShown);
+        tags.setManaged(isShown);
+        tagsRow.setMinHeight(isShown ? tagsRowMinHeight : 0);
+        tagsRow.setPrefHeight(isShown ? tagsRowPrefHeight : 0);
     }
 
     //@@author hikoya-reused
@@ -75,37 +126,6 @@ public class StallCard extends UiPart<Region> {
     }
     //@@author hikoya
 
-    //@@author hikoya-reused
-    /**
-     * Adapted from https://stackoverflow.com/a/70961583.
-     * Removes row from grid pane by index.
-     *
-     * @param grid Grid pane to be affected
-     * @param targetRowIndexIntegerObject Target row index to be removed. Integer object type,
-     *                                    because for some reason `getRowIndex` returns null
-     *                                    for children at 0th row.
-     */
-    private void removeRow(GridPane grid, Integer targetRowIndexIntegerObject) {
-        int targetRowIndex = targetRowIndexIntegerObject == null ? 1 : targetRowIndexIntegerObject;
-
-        // Remove children from row
-        grid.getChildren().removeIf(node -> (getRowIndexAsInteger(node) == targetRowIndex));
-
-        // Update indexes of other rows, i.e., shift rows up
-        grid.getChildren().forEach(node -> {
-            int rowIndex = getRowIndexAsInteger(node);
-
-            if (targetRowIndex < rowIndex) {
-                GridPane.setRowIndex(node, rowIndex - 1);
-            }
-        });
-
-        // Remove row constraints
-        grid.getRowConstraints().remove(targetRowIndex);
-    }
-    //@@author
-
-
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -71,6 +71,8 @@ public class StallListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Stall} using a {@code StallCard}.
      */
     class StallListViewCell extends ListCell<Stall> {
+        private StallCard stallCard;
+
         @Override
         protected void updateItem(Stall stall, boolean empty) {
             super.updateItem(stall, empty);
@@ -79,7 +81,12 @@ public class StallListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new StallCard(stall, getIndex() + 1).getRoot());
+                if (stallCard == null) {
+                    stallCard = new StallCard(stall, getIndex() + 1);
+                } else {
+                    stallCard.setStall(stall, getIndex() + 1);
+                }
+                setGraphic(stallCard.getRoot());
             }
         }
     }
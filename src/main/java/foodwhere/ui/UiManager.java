@@ -2,14 +2,12 @@ package foodwhere.ui;
 
 import java.util.logging.Logger;
 
-import foodwhere.MainApp;
 import foodwhere.commons.core.LogsCenter;
 import foodwhere.commons.util.StringUtil;
 import foodwhere.logic.Logic;
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
-import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
 /**
@@ -20,7 +18,6 @@ public class UiManager implements Ui {
     public static final String ALERT_DIALOG_PANE_FIELD_ID = "alertDialogPane";
 
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
-    private static final String ICON_APPLICATION = "/images/food-where_icon.png";
 
     private Logic logic;
     private MainWindow mainWindow;
@@ -37,7 +34,7 @@ public class UiManager implements Ui {
         logger.info("Starting UI...");
 
         //Set the application icon.
-        primaryStage.getIcons().add(getImage(ICON_APPLICATION));
+        primaryStage.getIcons().add(ImageRegistry.getImage(ImageRegistry.ICON_APPLICATION));
 
         try {
             mainWindow = new MainWindow(primaryStage, logic);
@@ -50,10 +47,6 @@ public class UiManager implements Ui {
         }
     }
 
-    private Image getImage(String imagePath) {
-        return new Image(MainApp.class.getResourceAsStream(imagePath));
-    }
-
     void showAlertDialogAndWait(Alert.AlertType type, String title, String headerText, String contentText) {
         showAlertDialogAndWait(mainWindow.getPrimaryStage(), type, title, headerText, contentText);
     }
@@ -58,5 +58,19 @@ public class ConfigTest {
 
         // EP: working with different objects
         assertFalse(defaultConfig.equals(customConfig));
+
+        // EP: compact data file
+        assertFalse(defaultConfig.isCompactDataFile());
+        Config compactConfig = new Config();
+        compactConfig.setCompactDataFile(true);
+        assertTrue(compactConfig.isCompactDataFile());
+        assertFalse(defaultConfig.equals(compactConfig));
+
+        // EP: preload images
+        assertTrue(defaultConfig.isPreloadImages());
+        Config noPreloadConfig = new Config();
+        noPreloadConfig.setPreloadImages(false);
+        assertFalse(noPreloadConfig.isPreloadImages());
+        assertFalse(defaultConfig.equals(noPreloadConfig));
     }
 }
@@ -1,6 +1,7 @@
 package foodwhere.commons.util;
 
 import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -46,6 +47,38 @@ public class StringUtilTest {
     }
 
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_correctResult() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("abc def 12", StringUtil.foldCase("ABc dEF 12"));
+
+        // strings that are equal ignoring case -> same folded string
+        assertEquals(StringUtil.foldCase("Clementi Ave 2"), StringUtil.foldCase("clementi AVE 2"));
+    }
+
+    //---------------- Tests for foldWord --------------------------------------
+
+    @Test
+    public void foldWord_invalidWords_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldWord(null));
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.foldWord("  "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.foldWord("aaa BBB"));
+    }
+
+    @Test
+    public void foldWord_validWord_trimmedAndFolded() {
+        assertEquals("abc", StringUtil.foldWord("  aBC "));
+    }
+
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
     /*
@@ -0,0 +1,168 @@
+package foodwhere.commons.util;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    private static final String ALPHABET = "aZ09 -/+\t\n\r\u000B\f\u0085\u2028\u00e9\u0663";
+    private static final DateTimeFormatter STRICT_SLASH_FORMAT = strictFormat("d/M/yyyy");
+    private static final DateTimeFormatter STRICT_DASH_FORMAT = strictFormat("d-M-yyyy");
+
+    @Test
+    public void isAlphanumeric() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+
+        assertFalse(ValidationUtil.isAlphanumeric(""));
+        assertFalse(ValidationUtil.isAlphanumeric("a b"));
+        assertFalse(ValidationUtil.isAlphanumeric("caf\u00e9")); // non-ASCII letter
+        assertTrue(ValidationUtil.isAlphanumeric("Friends2"));
+    }
+
+    @Test
+    public void isAlphanumericWords() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWords(null));
+
+        assertFalse(ValidationUtil.isAlphanumericWords(""));
+        assertFalse(ValidationUtil.isAlphanumericWords(" peter")); // starts with a space
+        assertFalse(ValidationUtil.isAlphanumericWords("peter\tjack")); // tab
+        assertTrue(ValidationUtil.isAlphanumericWords("Peter the 2nd "));
+    }
+
+    @Test
+    public void isNonBlankLine() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isNonBlankLine(null));
+
+        assertFalse(ValidationUtil.isNonBlankLine(""));
+        assertFalse(ValidationUtil.isNonBlankLine(" a")); // starts with whitespace
+        assertFalse(ValidationUtil.isNonBlankLine("a\nb")); // more than one line
+        assertTrue(ValidationUtil.isNonBlankLine("\u0085")); // line terminator, but not whitespace
+        assertTrue(ValidationUtil.isNonBlankLine("Blk 123, Jurong West Ave 6, #08-111 "));
+    }
+
+    @Test
+    public void scanners_randomStrings_sameAsRegex() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 20000; i++) {
+            String s = randomString(random, ALPHABET, 6);
+            assertEquals(s.matches("\\p{Alnum}+"), ValidationUtil.isAlphanumeric(s), s);
+            assertEquals(s.matches("[\\p{Alnum}][\\p{Alnum} ]*"), ValidationUtil.isAlphanumericWords(s), s);
+            assertEquals(s.matches("[^\\s].*"), ValidationUtil.isNonBlankLine(s), s);
+        }
+    }
+
+    @Test
+    public void parseInt() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.parseInt(null, 0, 5));
+
+        assertEquals(OptionalInt.empty(), ValidationUtil.parseInt("", 0, 5));
+        assertEquals(OptionalInt.empty(), ValidationUtil.parseInt("+", 0, 5));
+        assertEquals(OptionalInt.empty(), ValidationUtil.parseInt("6", 0, 5)); // out of range
+        assertEquals(OptionalInt.empty(), ValidationUtil.parseInt("2147483648", 0, Integer.MAX_VALUE));
+        assertEquals(OptionalInt.of(3), ValidationUtil.parseInt("+003", 0, 5));
+        assertEquals(OptionalInt.of(0), ValidationUtil.parseInt("-0", 0, 5));
+        assertEquals(OptionalInt.of(Integer.MIN_VALUE),
+                ValidationUtil.parseInt("-2147483648", Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void parseInt_randomStrings_sameAsIntegerParseInt() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 20000; i++) {
+            String s = randomString(random, "0123456789+- a\u0663", 12);
+            Optional<Integer> expected = parseIntOrEmpty(s).filter(value -> value >= -3 && value <= 5);
+            OptionalInt actual = ValidationUtil.parseInt(s, -3, 5);
+            assertEquals(expected.isPresent(), actual.isPresent(), s);
+            expected.ifPresent(value -> assertEquals((long) value, actual.getAsInt()));
+        }
+    }
+
+    @Test
+    public void isDateFormat() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDateFormat(null));
+
+        assertFalse(ValidationUtil.isDateFormat("1/1-2020")); // mixed separators
+        assertFalse(ValidationUtil.isDateFormat("1/1/20200"));
+        assertFalse(ValidationUtil.isDateFormat("1/1/2020 "));
+        assertFalse(ValidationUtil.isDateFormat("\u0661/1/2020")); // non-ASCII digit
+        assertTrue(ValidationUtil.isDateFormat("99/99/0000")); // need not exist
+    }
+
+    @Test
+    public void parseDate() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.parseDate(null));
+
+        assertEquals(Optional.empty(), ValidationUtil.parseDate("29/2/2021")); // not a leap year
+        assertEquals(Optional.empty(), ValidationUtil.parseDate("31-4-2020")); // April has 30 days
+        assertEquals(Optional.empty(), ValidationUtil.parseDate("1/1/0000")); // no year 0
+        assertEquals(Optional.of(LocalDate.of(2000, 2, 29)), ValidationUtil.parseDate("29-02-2000"));
+        assertEquals(Optional.of(LocalDate.of(9999, 12, 31)), ValidationUtil.parseDate("31/12/9999"));
+    }
+
+    @Test
+    public void parseDate_randomStrings_sameAsStrictFormatter() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 20000; i++) {
+            String s = random.nextInt(1 + random.nextInt(31)) + "/" + random.nextInt(14)
+                    + (random.nextBoolean() ? "/" : "-") + String.format("%04d", random.nextInt(2500));
+            if (random.nextBoolean()) {
+                s = s.replace('/', '-');
+            }
+            assertEquals(s.matches("\\d{1,2}-\\d{1,2}-\\d{4}|\\d{1,2}/\\d{1,2}/\\d{4}"),
+                    ValidationUtil.isDateFormat(s), s);
+            assertEquals(parseStrictOrEmpty(s), ValidationUtil.parseDate(s), s);
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private static Optional<Integer> parseIntOrEmpty(String s) {
+        try {
+            return Optional.of(Integer.parseInt(s));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<LocalDate> parseStrictOrEmpty(String s) {
+        if (!s.matches("\\d{1,2}-\\d{1,2}-\\d{4}|\\d{1,2}/\\d{1,2}/\\d{4}")) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(s, s.contains("/") ? STRICT_SLASH_FORMAT : STRICT_DASH_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static DateTimeFormatter strictFormat(String pattern) {
+        return new DateTimeFormatterBuilder()
+                .appendPattern(pattern)
+                .parseDefaulting(ChronoField.ERA, 1)
+                .toFormatter()
+                .withChronology(IsoChronology.INSTANCE)
+                .withResolverStyle(ResolverStyle.STRICT);
+    }
+}
@@ -8,10 +8,17 @@ import static foodwhere.testutil.Assert.assertThrows;
 import static foodwhere.testutil.TypicalStalls.AMY;
 import static foodwhere.testutil.TypicalStalls.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +32,7 @@ import foodwhere.logic.commands.SDeleteCommand;
 import foodwhere.logic.commands.SListCommand;
 import foodwhere.logic.commands.exceptions.CommandException;
 import foodwhere.logic.parser.exceptions.ParseException;
+import foodwhere.model.AddressBook;
 import foodwhere.model.Model;
 import foodwhere.model.ModelManager;
 import foodwhere.model.ReadOnlyAddressBook;
@@ -83,13 +91,83 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
 
-        // Execute add command
+        List<CommandException> reportedFailures = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(reportedFailures::add);
+
+        // Execute add command, the failed save is only reported once it has been attempted
         String addCommand = SAddCommand.COMMAND_WORD + NAME_DESC_AMY + ADDRESS_DESC_AMY;
         Stall expectedStall = new StallBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addStall(expectedStall);
         String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertThrows(CommandException.class, expectedMessage, () -> {
+            logic.execute(addCommand);
+            logic.flush();
+        });
+        assertEquals(expectedModel, model);
+        assertEquals(1, reportedFailures.size());
+        assertEquals(expectedMessage, reportedFailures.get(0).getMessage());
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterFailedSave_retriesSave() throws Exception {
+        JsonAddressBookFailingStub addressBookStorage =
+                new JsonAddressBookFailingStub(temporaryFolder.resolve("retriedAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("retriedUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        CountDownLatch failedSave = new CountDownLatch(1);
+        logic.setSaveFailureHandler(failure -> failedSave.countDown());
+
+        logic.execute(SAddCommand.COMMAND_WORD + NAME_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(failedSave.await(10, TimeUnit.SECONDS));
+
+        // the command leaves the data unchanged, but the failed save is still retried without a flush
+        addressBookStorage.isFailing = false;
+        logic.execute(SListCommand.COMMAND_WORD);
+        assertTrue(addressBookStorage.savedAddressBook.await(10, TimeUnit.SECONDS));
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_afterFailedSave_savesLatestAddressBook() throws Exception {
+        JsonAddressBookFailingStub addressBookStorage =
+                new JsonAddressBookFailingStub(temporaryFolder.resolve("flushedAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("flushedUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.execute(SAddCommand.COMMAND_WORD + NAME_DESC_AMY + ADDRESS_DESC_AMY);
+        assertThrows(CommandException.class, () -> logic.flush());
+
+        addressBookStorage.isFailing = false;
+        logic.flush();
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_afterCommands_savesLatestAddressBook() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+
+        logic.execute(SAddCommand.COMMAND_WORD + NAME_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(SListCommand.COMMAND_WORD);
+        logic.flush();
+
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_commandDoesNotChangeData_addressBookNotSaved() throws Exception {
+        logic.execute(SListCommand.COMMAND_WORD);
+        logic.flush();
+
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void flush_noCommandExecuted_success() throws Exception {
+        logic.flush();
     }
 
     @Test
@@ -193,4 +271,25 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called while {@code isFailing} is set.
+     */
+    private static class JsonAddressBookFailingStub extends JsonAddressBookStorage {
+        private final CountDownLatch savedAddressBook = new CountDownLatch(1);
+        private volatile boolean isFailing = true;
+
+        private JsonAddressBookFailingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveAddressBook(addressBook, filePath);
+            savedAddressBook.countDown();
+        }
+    }
 }
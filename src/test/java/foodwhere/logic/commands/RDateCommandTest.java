@@ -0,0 +1,91 @@
+package foodwhere.logic.commands;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.model.Model;
+import foodwhere.model.ModelManager;
+import foodwhere.model.UserPrefs;
+import foodwhere.model.query.DateTerm;
+import foodwhere.model.review.Date;
+import foodwhere.model.review.Review;
+import foodwhere.model.review.ReviewBuilder;
+import foodwhere.testutil.TypicalReviews;
+import foodwhere.testutil.TypicalStalls;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RDateCommand}.
+ */
+public class RDateCommandTest {
+    private Model model = new ModelManager(TypicalStalls.getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nonPositiveDays_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RDateCommand(0));
+        assertThrows(IllegalArgumentException.class, () -> new RDateCommand(-1));
+    }
+
+    @Test
+    public void equals() {
+        DateTerm range = new DateTerm(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31));
+        RDateCommand rangeCommand = new RDateCommand(range);
+        RDateCommand daysCommand = new RDateCommand(7);
+
+        // same object -> returns true
+        assertTrue(rangeCommand.equals(rangeCommand));
+
+        // same values -> returns true
+        assertTrue(rangeCommand.equals(new RDateCommand(range)));
+        assertTrue(daysCommand.equals(new RDateCommand(7)));
+
+        // different types -> returns false
+        assertFalse(rangeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(rangeCommand.equals(null));
+
+        // different range or days -> returns false
+        assertFalse(rangeCommand.equals(new RDateCommand(new DateTerm(LocalDate.MIN, LocalDate.of(2020, 12, 31)))));
+        assertFalse(daysCommand.equals(new RDateCommand(8)));
+        assertFalse(rangeCommand.equals(daysCommand));
+    }
+
+    @Test
+    public void execute_range_reviewsInRangeListedLatestFirst() {
+        assertExecuteSuccess(new RDateCommand(new DateTerm(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 4, 1))),
+                TypicalReviews.CARL, TypicalReviews.DANIEL, TypicalReviews.ALICE);
+        assertExecuteSuccess(new RDateCommand(new DateTerm(LocalDate.MIN, LocalDate.of(2010, 1, 1))),
+                TypicalReviews.FIONA, TypicalReviews.ELLE);
+        assertExecuteSuccess(new RDateCommand(new DateTerm(LocalDate.of(2022, 1, 1), LocalDate.MAX)));
+    }
+
+    @Test
+    public void execute_days_reviewsInLastDaysListed() {
+        LocalDate today = LocalDate.now();
+        Review todayReview = new ReviewBuilder(TypicalReviews.ALICE)
+                .withDate(today.format(Date.OUTPUT_DATE_FORMAT)).build();
+        Review weekAgoReview = new ReviewBuilder(TypicalReviews.BENSON)
+                .withDate(today.minusDays(6).format(Date.OUTPUT_DATE_FORMAT)).build();
+        model.setReview(TypicalReviews.ALICE, todayReview);
+        model.setReview(TypicalReviews.BENSON, weekAgoReview);
+
+        assertExecuteSuccess(new RDateCommand(1), todayReview);
+        assertExecuteSuccess(new RDateCommand(6), todayReview);
+        assertExecuteSuccess(new RDateCommand(7), todayReview, weekAgoReview);
+    }
+
+    private void assertExecuteSuccess(RDateCommand command, Review... expectedReviews) {
+        CommandResult result = command.execute(model);
+        assertEquals(String.format(Messages.MESSAGE_REVIEWS_LISTED_OVERVIEW, expectedReviews.length),
+                result.getFeedbackToUser());
+        assertEquals(Arrays.asList(expectedReviews), model.getFilteredReviewList());
+    }
+}
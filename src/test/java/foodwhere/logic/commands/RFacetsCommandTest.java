@@ -0,0 +1,56 @@
+package foodwhere.logic.commands;
+
+import static foodwhere.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.model.Model;
+import foodwhere.model.ModelManager;
+import foodwhere.model.UserPrefs;
+import foodwhere.model.commons.Tag;
+import foodwhere.model.review.Review;
+import foodwhere.testutil.TypicalStalls;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RFacetsCommand}.
+ */
+public class RFacetsCommandTest {
+
+    private Model model = new ModelManager(TypicalStalls.getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(TypicalStalls.getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_filteredList_showsFacetsOfListedReviews() {
+        Predicate<Review> isFriend = review -> review.getTags().contains(Tag.of("friends"));
+        model.updateFilteredReviewList(isFriend);
+        expectedModel.updateFilteredReviewList(isFriend);
+
+        String expectedMessage = String.format(RFacetsCommand.MESSAGE_SUCCESS, 3,
+                "friends (3), owesmoney (1)",
+                "5: 0, 4: 0, 3: 3, 2: 0, 1: 0, 0: 0",
+                "2020-01 (1), 2020-02 (1), 2021-12 (1)");
+        assertCommandSuccess(new RFacetsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_reviewsWithoutTags_showsNoTags() {
+        Predicate<Review> isUntagged = review -> review.getTags().isEmpty();
+        model.updateFilteredReviewList(isUntagged);
+        expectedModel.updateFilteredReviewList(isUntagged);
+
+        String expectedMessage = String.format(RFacetsCommand.MESSAGE_SUCCESS, 4,
+                RFacetsCommand.MESSAGE_NONE,
+                "5: 0, 4: 0, 3: 4, 2: 0, 1: 0, 0: 0",
+                "2003-09 (1), 2007-06 (1), 2017-07 (1), 2020-04 (1)");
+        assertCommandSuccess(new RFacetsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noReviewsListed_showsNoReviews() {
+        model.updateFilteredReviewList(review -> false);
+        expectedModel.updateFilteredReviewList(review -> false);
+        assertCommandSuccess(new RFacetsCommand(), model, RFacetsCommand.MESSAGE_NO_REVIEWS, expectedModel);
+    }
+}
@@ -0,0 +1,123 @@
+package foodwhere.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.logic.parser.QueryParser;
+import foodwhere.model.Model;
+import foodwhere.model.ModelManager;
+import foodwhere.model.UserPrefs;
+import foodwhere.model.commons.Tag;
+import foodwhere.model.query.Query;
+import foodwhere.model.query.QueryIndex;
+import foodwhere.model.query.QueryTerm;
+import foodwhere.model.query.TagTerm;
+import foodwhere.model.review.Review;
+import foodwhere.model.review.ReviewBuilder;
+import foodwhere.model.stall.Stall;
+import foodwhere.testutil.TypicalReviews;
+import foodwhere.testutil.TypicalStalls;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RFilterCommand}.
+ */
+public class RFilterCommandTest {
+    private Model model = new ModelManager(TypicalStalls.getTypicalAddressBook(), new UserPrefs());
+    private final Review alice = new ReviewBuilder(TypicalReviews.ALICE).withRating(5).build();
+    private final Review benson = new ReviewBuilder(TypicalReviews.BENSON).withRating(1).build();
+
+    {
+        model.setReview(TypicalReviews.ALICE, alice);
+        model.setReview(TypicalReviews.BENSON, benson);
+    }
+
+    @Test
+    public void equals() {
+        RFilterCommand firstCommand = new RFilterCommand(new TagTerm(new Tag("first")));
+        RFilterCommand secondCommand = new RFilterCommand(new TagTerm(new Tag("second")));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new RFilterCommand(new TagTerm(new Tag("first")))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_compoundQuery_matchingReviewsListed() throws Exception {
+        assertFilterSuccess("t/friends AND r/4..5", alice);
+        assertFilterSuccess("t/friends NOT n/meier", alice);
+        assertFilterSuccess("n/kurz OR n/meyer OR d/..31/12/2010",
+                TypicalReviews.CARL, TypicalReviews.ELLE, TypicalReviews.FIONA);
+        assertFilterSuccess("NOT r/3 AND (d/01/01/2021.. OR d/01/01/2020)", alice, benson);
+        assertFilterSuccess("t/friends AND NOT t/friends");
+    }
+
+    @Test
+    public void execute_reviewAddedAfterFilter_addedReviewShown() throws Exception {
+        assertFilterSuccess("t/spicy");
+
+        Stall carl = model.getFilteredStallList().stream()
+                .filter(stall -> stall.isSameStall(TypicalStalls.CARL)).findFirst().get();
+        Review spicy = new ReviewBuilder(TypicalReviews.CARL).withDate("02/04/2020").withTags("spicy").build();
+        model.addReviewToStall(spicy, carl);
+        assertTrue(model.getFilteredReviewList().contains(spicy));
+    }
+
+    /**
+     * Executes an {@code RFilterCommand} for {@code query}, and asserts that exactly {@code expectedReviews}
+     * are listed, the same reviews as when every term is tested on every review.
+     */
+    private void assertFilterSuccess(String query, Review... expectedReviews) throws Exception {
+        Query parsedQuery = QueryParser.parse(query);
+        List<Review> unindexedMatches = model.getAddressBook().getReviewList().stream()
+                .filter(parsedQuery.plan(new UnindexedReviews()).toPredicate())
+                .collect(Collectors.toList());
+
+        CommandResult result = new RFilterCommand(parsedQuery).execute(model);
+
+        assertEquals(String.format(Messages.MESSAGE_REVIEWS_LISTED_OVERVIEW, expectedReviews.length),
+                result.getFeedbackToUser());
+        assertEquals(Arrays.asList(expectedReviews), model.getFilteredReviewList());
+        assertEquals(unindexedMatches, model.getFilteredReviewList());
+    }
+
+    /**
+     * A {@code QueryIndex} without indexes, so that every term is tested on every review.
+     */
+    private static class UnindexedReviews implements QueryIndex<Review, Review> {
+        @Override
+        public Review getKey(Review review) {
+            return review;
+        }
+
+        @Override
+        public Optional<Set<Review>> find(QueryTerm term) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean test(Review review, QueryTerm term) {
+            return term.test(review);
+        }
+    }
+}
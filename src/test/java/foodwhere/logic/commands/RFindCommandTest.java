@@ -18,6 +18,8 @@ import foodwhere.model.ModelManager;
 import foodwhere.model.UserPrefs;
 import foodwhere.model.commons.Name;
 import foodwhere.model.commons.Tag;
+import foodwhere.model.review.Review;
+import foodwhere.model.review.ReviewBuilder;
 import foodwhere.model.review.ReviewContainsKeywordsPredicate;
 import foodwhere.testutil.TypicalReviews;
 import foodwhere.testutil.TypicalStalls;
@@ -89,6 +91,42 @@ public class RFindCommandTest {
                 model.getFilteredReviewList());
     }
 
+    @Test
+    public void execute_nameAndTagKeywords_multipleReviewsFound() {
+        String expectedMessage = String.format(Messages.MESSAGE_REVIEWS_LISTED_OVERVIEW, 2);
+        ReviewContainsKeywordsPredicate predicate = new ReviewContainsKeywordsPredicate(
+                Collections.singletonList(new Name("Kurz")), Collections.singletonList(new Tag("owesMoney")));
+        RFindCommand command = new RFindCommand(predicate);
+        expectedModel.updateFilteredReviewList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalReviews.BENSON, TypicalReviews.CARL), model.getFilteredReviewList());
+    }
+
+    @Test
+    public void execute_tagsEdited_editedTagsFound() {
+        Review editedAlice = new ReviewBuilder(TypicalReviews.ALICE).withTags("hawker").build();
+        model.setReview(TypicalReviews.ALICE, editedAlice);
+        String expectedMessage = String.format(Messages.MESSAGE_REVIEWS_LISTED_OVERVIEW, 1);
+        ReviewContainsKeywordsPredicate predicate = new ReviewContainsKeywordsPredicate(
+                Collections.emptyList(), Arrays.asList(new Tag("hawker"), new Tag("unused")));
+        RFindCommand command = new RFindCommand(predicate);
+
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Collections.singletonList(editedAlice), model.getFilteredReviewList());
+    }
+
+    @Test
+    public void execute_reviewEditedAfterFind_allReviewsShown() {
+        ReviewContainsKeywordsPredicate predicate = new ReviewContainsKeywordsPredicate(
+                Collections.emptyList(), Collections.singletonList(new Tag("owesMoney")));
+        new RFindCommand(predicate).execute(model);
+        assertEquals(Collections.singletonList(TypicalReviews.BENSON), model.getFilteredReviewList());
+
+        // the reviews found are not updated, so the filter is reset instead of hiding the edited review
+        model.setReview(TypicalReviews.BENSON, new ReviewBuilder(TypicalReviews.BENSON).withTags("friends").build());
+        assertEquals(model.getAddressBook().getReviewList(), model.getFilteredReviewList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code ReviewContainsKeywordsPredicate}.
      */
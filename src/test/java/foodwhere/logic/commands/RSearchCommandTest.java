@@ -0,0 +1,92 @@
+package foodwhere.logic.commands;
+
+import static foodwhere.testutil.TypicalIndexes.INDEX_FIRST_REVIEW;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.model.Model;
+import foodwhere.model.ModelManager;
+import foodwhere.model.UserPrefs;
+import foodwhere.model.review.Review;
+import foodwhere.model.review.ReviewBuilder;
+import foodwhere.model.review.comparator.ReviewsComparatorList;
+import foodwhere.testutil.TypicalReviews;
+import foodwhere.testutil.TypicalStalls;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RSearchCommand}.
+ */
+public class RSearchCommandTest {
+    private Model model = new ModelManager(TypicalStalls.getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        RSearchCommand searchFirstCommand = new RSearchCommand("first");
+        RSearchCommand searchSecondCommand = new RSearchCommand("second");
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new RSearchCommand("first")));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingWords_noReviewFound() {
+        CommandResult result = new RSearchCommand("ramen").execute(model);
+
+        assertEquals(String.format(Messages.MESSAGE_REVIEWS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredReviewList());
+    }
+
+    @Test
+    public void execute_multipleWords_reviewsListedByRelevance() {
+        CommandResult result = new RSearchCommand("Street, wall").execute(model);
+
+        assertEquals(String.format(Messages.MESSAGE_REVIEWS_LISTED_OVERVIEW, 3), result.getFeedbackToUser());
+        // equally relevant reviews are listed newest first
+        assertEquals(Arrays.asList(TypicalReviews.CARL, TypicalReviews.DANIEL, TypicalReviews.GEORGE),
+                model.getFilteredReviewList());
+    }
+
+    @Test
+    public void execute_reviewsChanged_indexUpdated() throws Exception {
+        Review editedCarl = new ReviewBuilder(TypicalReviews.CARL).withContent("tokyo ramen").build();
+        model.setReview(TypicalReviews.CARL, editedCarl);
+        new RSearchCommand("ramen street").execute(model);
+        assertEquals(Arrays.asList(editedCarl, TypicalReviews.DANIEL, TypicalReviews.GEORGE),
+                model.getFilteredReviewList());
+
+        // indexes refer to the listed order
+        new RDeleteCommand(INDEX_FIRST_REVIEW).execute(model);
+        assertEquals(Arrays.asList(TypicalReviews.DANIEL, TypicalReviews.GEORGE), model.getFilteredReviewList());
+
+        new RSearchCommand("ramen").execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredReviewList());
+    }
+
+    @Test
+    public void execute_thenSortReviews_listedInSortedOrder() {
+        new RSearchCommand("street").execute(model);
+        model.sortReviews(ReviewsComparatorList.DATE.getComparator());
+
+        assertEquals(Arrays.asList(TypicalReviews.GEORGE, TypicalReviews.DANIEL, TypicalReviews.CARL),
+                model.getFilteredReviewList());
+    }
+}
@@ -1,9 +1,12 @@
 package foodwhere.logic.commands;
 
 import static foodwhere.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import foodwhere.model.Model;
@@ -68,6 +71,17 @@ public class RSortCommandTest {
         assertCommandSuccess(new RSortCommand(comparator), model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_multipleCriteria_showsListSortedByEachCriterionInTurn() {
+        ReviewsComparatorList first = prepareComparator("REVERSEDRATING");
+        ReviewsComparatorList second = prepareComparator("REVERSEDDATE");
+        expectedModel.sortReviews(first.getComparator().thenComparing(second.getComparator()));
+        String expectedMessage = String.format(RSortCommand.MESSAGE_SUCCESS,
+                first.getCriteria() + ", then " + second.getCriteria());
+        assertCommandSuccess(new RSortCommand(Arrays.asList(first, second)), model, expectedMessage, expectedModel);
+        assertEquals(expectedModel.getFilteredReviewList(), model.getFilteredReviewList());
+    }
+
     @Test
     public void equals() {
         RSortCommand sortByName = new RSortCommand(ReviewsComparatorList.valueOf("NAME"));
@@ -88,6 +102,16 @@ public class RSortCommandTest {
 
         // different criterion -> returns false
         assertFalse(sortByName.equals(sortByDate));
+
+        // same criteria in a different order -> returns false
+        RSortCommand sortByNameThenDate = new RSortCommand(Arrays.asList(
+                ReviewsComparatorList.valueOf("NAME"), ReviewsComparatorList.valueOf("DATE")));
+        RSortCommand sortByDateThenName = new RSortCommand(Arrays.asList(
+                ReviewsComparatorList.valueOf("DATE"), ReviewsComparatorList.valueOf("NAME")));
+        assertTrue(sortByNameThenDate.equals(new RSortCommand(Arrays.asList(
+                ReviewsComparatorList.valueOf("NAME"), ReviewsComparatorList.valueOf("DATE")))));
+        assertFalse(sortByNameThenDate.equals(sortByDateThenName));
+        assertFalse(sortByNameThenDate.equals(sortByName));
     }
 
     /**
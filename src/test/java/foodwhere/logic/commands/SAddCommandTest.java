@@ -7,9 +7,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,9 +25,12 @@ import foodwhere.model.AddressBook;
 import foodwhere.model.Model;
 import foodwhere.model.ReadOnlyAddressBook;
 import foodwhere.model.ReadOnlyUserPrefs;
+import foodwhere.model.commons.Name;
+import foodwhere.model.commons.Tag;
 import foodwhere.model.review.Review;
 import foodwhere.model.stall.Stall;
 import foodwhere.model.stall.StallBuilder;
+import foodwhere.model.stall.StallIdentity;
 import javafx.collections.ObservableList;
 
 public class SAddCommandTest {
@@ -140,6 +148,11 @@ public class SAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getModificationVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasStall(Stall stall) {
             throw new AssertionError("This method should not be called.");
@@ -170,11 +183,51 @@ public class SAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<StallIdentity> getStallsWithAnyTag(Collection<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<StallIdentity> getStallsWithAnyNameWord(Collection<Name> nameKeywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortReviews(Comparator<Review> comparator) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Review> getReviewsWithAnyTag(Collection<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Review> getReviewsWithAnyNameWord(Collection<Name> nameKeywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Review> getReviewsWithRatingBetween(int min, int max) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Review> getReviewsBetween(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Stall> getTopRatedStalls(int limit, int minReviews, Optional<Tag> tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Review> searchReviewContents(String query, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Stall> getFilteredStallList() {
             throw new AssertionError("This method should not be called.");
@@ -190,10 +243,20 @@ public class SAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredStallList(Predicate<Stall> predicate, Comparator<Stall> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredReviewList(Predicate<Review> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredReviewList(Predicate<Review> predicate, Comparator<Review> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
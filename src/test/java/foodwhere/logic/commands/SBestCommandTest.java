@@ -0,0 +1,98 @@
+package foodwhere.logic.commands;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.model.Model;
+import foodwhere.model.ModelManager;
+import foodwhere.model.UserPrefs;
+import foodwhere.model.commons.Tag;
+import foodwhere.model.review.ReviewBuilder;
+import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallIdentity;
+import foodwhere.testutil.TypicalReviews;
+import foodwhere.testutil.TypicalStalls;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SBestCommand}.
+ */
+public class SBestCommandTest {
+    private Model model = new ModelManager(TypicalStalls.getTypicalAddressBook(), new UserPrefs());
+
+    {
+        model.setReview(TypicalReviews.ALICE, new ReviewBuilder(TypicalReviews.ALICE).withRating(5).build());
+        model.setReview(TypicalReviews.BENSON, new ReviewBuilder(TypicalReviews.BENSON).withRating(1).build());
+        model.setReview(TypicalReviews.GEORGE, new ReviewBuilder(TypicalReviews.GEORGE).withRating(4).build());
+    }
+
+    @Test
+    public void constructor_nonPositiveCounts_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SBestCommand(0, 1, Optional.empty()));
+        assertThrows(IllegalArgumentException.class, () -> new SBestCommand(1, 0, Optional.empty()));
+    }
+
+    @Test
+    public void equals() {
+        SBestCommand command = new SBestCommand(5, 1, Optional.of(new Tag("halal")));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new SBestCommand(5, 1, Optional.of(new Tag("halal")))));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different values -> returns false
+        assertFalse(command.equals(new SBestCommand(4, 1, Optional.of(new Tag("halal")))));
+        assertFalse(command.equals(new SBestCommand(5, 2, Optional.of(new Tag("halal")))));
+        assertFalse(command.equals(new SBestCommand(5, 1, Optional.empty())));
+    }
+
+    @Test
+    public void execute_allStalls_bestStallsListedInOrder() {
+        assertExecuteSuccess(new SBestCommand(2, 1, Optional.empty()), TypicalStalls.ALICE, TypicalStalls.GEORGE);
+    }
+
+    @Test
+    public void execute_tag_bestStallsWithTagListedInOrder() {
+        assertExecuteSuccess(new SBestCommand(5, 1, Optional.of(new Tag("friends"))),
+                TypicalStalls.ALICE, TypicalStalls.DANIEL, TypicalStalls.BENSON);
+    }
+
+    @Test
+    public void execute_minReviewsNotMet_noStallListed() {
+        assertExecuteSuccess(new SBestCommand(5, 2, Optional.empty()));
+    }
+
+    @Test
+    public void execute_thenListAll_originalOrderRestored() {
+        new SBestCommand(2, 1, Optional.empty()).execute(model);
+        model.updateFilteredStallList(Model.PREDICATE_SHOW_ALL_STALLS);
+        assertEquals(model.getAddressBook().getStallList(), model.getFilteredStallList());
+    }
+
+    private void assertExecuteSuccess(SBestCommand command, Stall... expectedStalls) {
+        CommandResult result = command.execute(model);
+        assertEquals(String.format(Messages.MESSAGE_STALLS_LISTED_OVERVIEW, expectedStalls.length),
+                result.getFeedbackToUser());
+        List<StallIdentity> expected = Arrays.stream(expectedStalls).map(StallIdentity::new)
+                .collect(Collectors.toList());
+        assertEquals(expected, model.getFilteredStallList().stream().map(StallIdentity::new)
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,120 @@
+package foodwhere.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.logic.parser.QueryParser;
+import foodwhere.model.Model;
+import foodwhere.model.ModelManager;
+import foodwhere.model.UserPrefs;
+import foodwhere.model.commons.Tag;
+import foodwhere.model.query.Query;
+import foodwhere.model.query.QueryIndex;
+import foodwhere.model.query.QueryTerm;
+import foodwhere.model.query.TagTerm;
+import foodwhere.model.review.ReviewBuilder;
+import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallBuilder;
+import foodwhere.model.stall.StallIdentity;
+import foodwhere.testutil.TypicalReviews;
+import foodwhere.testutil.TypicalStalls;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SFilterCommand}.
+ */
+public class SFilterCommandTest {
+    private Model model = new ModelManager(TypicalStalls.getTypicalAddressBook(), new UserPrefs());
+
+    {
+        model.setReview(TypicalReviews.ALICE, new ReviewBuilder(TypicalReviews.ALICE).withRating(5).build());
+        model.setReview(TypicalReviews.BENSON, new ReviewBuilder(TypicalReviews.BENSON).withRating(1).build());
+    }
+
+    @Test
+    public void equals() {
+        SFilterCommand firstCommand = new SFilterCommand(new TagTerm(new Tag("first")));
+        SFilterCommand secondCommand = new SFilterCommand(new TagTerm(new Tag("second")));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new SFilterCommand(new TagTerm(new Tag("first")))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_compoundQuery_matchingStallsListed() throws Exception {
+        assertFilterSuccess("t/friends AND r/4..5", TypicalStalls.ALICE);
+        assertFilterSuccess("t/friends NOT n/meier", TypicalStalls.ALICE);
+        assertFilterSuccess("(n/kurz OR n/meyer) AND NOT d/..31/12/2010", TypicalStalls.CARL);
+        assertFilterSuccess("t/owesMoney OR r/..2", TypicalStalls.BENSON);
+        assertFilterSuccess("NOT r/0..5 OR n/best", TypicalStalls.GEORGE);
+    }
+
+    @Test
+    public void execute_stallAddedAfterFilter_addedStallShown() throws Exception {
+        assertFilterSuccess("t/halal");
+
+        Stall hoon = new StallBuilder(TypicalStalls.HOON).withTags("halal").build();
+        model.addStall(hoon);
+        assertTrue(model.getFilteredStallList().contains(hoon));
+    }
+
+    /**
+     * Executes an {@code SFilterCommand} for {@code query}, and asserts that exactly {@code expectedStalls} are listed,
+     * the same stalls as when every term is tested on every stall.
+     */
+    private void assertFilterSuccess(String query, Stall... expectedStalls) throws Exception {
+        Query parsedQuery = QueryParser.parse(query);
+        List<Stall> unindexedMatches = model.getAddressBook().getStallList().stream()
+                .filter(parsedQuery.plan(new UnindexedStalls()).toPredicate())
+                .collect(Collectors.toList());
+
+        CommandResult result = new SFilterCommand(parsedQuery).execute(model);
+
+        assertEquals(String.format(Messages.MESSAGE_STALLS_LISTED_OVERVIEW, expectedStalls.length),
+                result.getFeedbackToUser());
+        assertEquals(Arrays.stream(expectedStalls).map(StallIdentity::new).collect(Collectors.toList()),
+                model.getFilteredStallList().stream().map(StallIdentity::new).collect(Collectors.toList()));
+        assertEquals(unindexedMatches, model.getFilteredStallList());
+    }
+
+    /**
+     * A {@code QueryIndex} without indexes, so that every term is tested on every stall.
+     */
+    private static class UnindexedStalls implements QueryIndex<Stall, StallIdentity> {
+        @Override
+        public StallIdentity getKey(Stall stall) {
+            return new StallIdentity(stall);
+        }
+
+        @Override
+        public Optional<Set<StallIdentity>> find(QueryTerm term) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean test(Stall stall, QueryTerm term) {
+            return term.test(stall);
+        }
+    }
+}
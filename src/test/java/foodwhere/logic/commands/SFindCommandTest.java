@@ -19,6 +19,7 @@ import foodwhere.model.UserPrefs;
 import foodwhere.model.commons.Name;
 import foodwhere.model.commons.Tag;
 import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallBuilder;
 import foodwhere.model.stall.StallContainsKeywordsPredicate;
 import foodwhere.testutil.TypicalStalls;
 
@@ -96,6 +97,47 @@ public class SFindCommandTest {
         }
     }
 
+    @Test
+    public void execute_nameAndTagKeywords_multipleStallsFound() {
+        String expectedMessage = String.format(Messages.MESSAGE_STALLS_LISTED_OVERVIEW, 2);
+        StallContainsKeywordsPredicate predicate = new StallContainsKeywordsPredicate(
+                Collections.singletonList(new Name("Kurz")), Collections.singletonList(new Tag("owesMoney")));
+        SFindCommand command = new SFindCommand(predicate);
+        expectedModel.updateFilteredStallList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        List<Stall> foundStalls = model.getFilteredStallList();
+        assertEquals(2, foundStalls.size());
+        assertTrue(foundStalls.get(0).isSameStall(TypicalStalls.BENSON));
+        assertTrue(foundStalls.get(1).isSameStall(TypicalStalls.CARL));
+    }
+
+    @Test
+    public void execute_tagsEdited_editedTagsFound() {
+        Stall alice = model.getFilteredStallList().get(0);
+        model.setStall(alice, new StallBuilder(alice).withTags("hawker").build());
+        String expectedMessage = String.format(Messages.MESSAGE_STALLS_LISTED_OVERVIEW, 1);
+        StallContainsKeywordsPredicate predicate = new StallContainsKeywordsPredicate(
+                Collections.emptyList(), Arrays.asList(new Tag("hawker"), new Tag("unused")));
+        SFindCommand command = new SFindCommand(predicate);
+
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Collections.singletonList(model.getAddressBook().getStallList().get(0)),
+                model.getFilteredStallList());
+    }
+
+    @Test
+    public void execute_stallEditedAfterFind_allStallsShown() {
+        StallContainsKeywordsPredicate predicate = new StallContainsKeywordsPredicate(
+                Collections.emptyList(), Collections.singletonList(new Tag("owesMoney")));
+        new SFindCommand(predicate).execute(model);
+        Stall benson = model.getFilteredStallList().get(0);
+        assertTrue(benson.isSameStall(TypicalStalls.BENSON));
+
+        // the stalls found are not updated, so the filter is reset instead of showing a stall that no longer matches
+        model.setStall(benson, new StallBuilder(benson).withTags("friends").build());
+        assertEquals(model.getAddressBook().getStallList(), model.getFilteredStallList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code StallContainsKeywordsPredicate}.
      */
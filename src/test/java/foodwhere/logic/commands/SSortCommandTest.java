@@ -1,9 +1,12 @@
 package foodwhere.logic.commands;
 
 import static foodwhere.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import foodwhere.model.Model;
@@ -36,6 +39,33 @@ public class SSortCommandTest {
         assertCommandSuccess(new SSortCommand(comparator), model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_reversedRatingCriterion_showsSortedListByAverageRating() {
+        StallsComparatorList comparator = prepareComparator("REVERSEDRATING");
+        expectedModel.sortStalls(comparator.getComparator());
+        String expectedMessage = String.format(SSortCommand.MESSAGE_SUCCESS, comparator.getCriteria());
+        assertCommandSuccess(new SSortCommand(comparator), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_reversedReviewsCriterion_showsSortedListByReviewCount() {
+        StallsComparatorList comparator = prepareComparator("REVERSEDREVIEWS");
+        expectedModel.sortStalls(comparator.getComparator());
+        String expectedMessage = String.format(SSortCommand.MESSAGE_SUCCESS, comparator.getCriteria());
+        assertCommandSuccess(new SSortCommand(comparator), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_multipleCriteria_showsListSortedByEachCriterionInTurn() {
+        StallsComparatorList first = prepareComparator("REVERSEDRATING");
+        StallsComparatorList second = prepareComparator("NAME");
+        expectedModel.sortStalls(first.getComparator().thenComparing(second.getComparator()));
+        String expectedMessage = String.format(SSortCommand.MESSAGE_SUCCESS,
+                first.getCriteria() + ", then " + second.getCriteria());
+        assertCommandSuccess(new SSortCommand(Arrays.asList(first, second)), model, expectedMessage, expectedModel);
+        assertEquals(expectedModel.getFilteredStallList(), model.getFilteredStallList());
+    }
+
     @Test
     public void equals() {
         SSortCommand sortByName = new SSortCommand(StallsComparatorList.valueOf("NAME"));
@@ -0,0 +1,81 @@
+package foodwhere.logic.commands;
+
+import static foodwhere.logic.commands.CommandTestUtil.assertCommandFailure;
+import static foodwhere.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.commons.core.index.Index;
+import foodwhere.model.Model;
+import foodwhere.model.ModelManager;
+import foodwhere.model.UserPrefs;
+import foodwhere.model.review.Review;
+import foodwhere.model.review.ReviewBuilder;
+import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallBuilder;
+import foodwhere.testutil.TypicalIndexes;
+import foodwhere.testutil.TypicalReviews;
+import foodwhere.testutil.TypicalStalls;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code SStatsCommand}.
+ */
+public class SStatsCommandTest {
+
+    private Model model = new ModelManager(TypicalStalls.getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_stallWithReviews_showsStats() {
+        Review review = new ReviewBuilder(TypicalReviews.ALICE).withContent("Even better now")
+                .withDate("02/01/2020").withRating(5).build();
+        model.addReview(review);
+        Model expectedModel = new ModelManager(TypicalStalls.getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addReview(review);
+
+        String expectedMessage = String.format(SStatsCommand.MESSAGE_STATS, TypicalStalls.ALICE.getName().fullName,
+                2, 4.0, "5: 1, 4: 0, 3: 1, 2: 0, 1: 0, 0: 0", "02/01/2020");
+        assertCommandSuccess(new SStatsCommand(TypicalIndexes.INDEX_FIRST_STALL), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_stallWithoutReviews_showsNoReviews() {
+        Stall stall = new StallBuilder().withName("New Stall").build();
+        model.addStall(stall);
+        Model expectedModel = new ModelManager(TypicalStalls.getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addStall(stall);
+        Index lastIndex = Index.fromOneBased(model.getFilteredStallList().size());
+
+        String expectedMessage = String.format(SStatsCommand.MESSAGE_NO_REVIEWS, "New Stall");
+        assertCommandSuccess(new SStatsCommand(lastIndex), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredStallList().size() + 1);
+        assertCommandFailure(new SStatsCommand(outOfBoundIndex), model, SStatsCommand.MESSAGE_INVALID_INDEX_ERROR);
+    }
+
+    @Test
+    public void equals() {
+        SStatsCommand firstCommand = new SStatsCommand(TypicalIndexes.INDEX_FIRST_STALL);
+        SStatsCommand secondCommand = new SStatsCommand(TypicalIndexes.INDEX_SECOND_STALL);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new SStatsCommand(TypicalIndexes.INDEX_FIRST_STALL)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different stall -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -14,16 +15,23 @@ import foodwhere.logic.commands.ClearCommand;
 import foodwhere.logic.commands.ExitCommand;
 import foodwhere.logic.commands.HelpCommand;
 import foodwhere.logic.commands.RAddCommand;
+import foodwhere.logic.commands.RDateCommand;
 import foodwhere.logic.commands.RDeleteCommand;
+import foodwhere.logic.commands.RFacetsCommand;
+import foodwhere.logic.commands.RFilterCommand;
 import foodwhere.logic.commands.RFindCommand;
 import foodwhere.logic.commands.RListCommand;
+import foodwhere.logic.commands.RSearchCommand;
 import foodwhere.logic.commands.RSortCommand;
 import foodwhere.logic.commands.SAddCommand;
+import foodwhere.logic.commands.SBestCommand;
 import foodwhere.logic.commands.SDeleteCommand;
 import foodwhere.logic.commands.SEditCommand;
+import foodwhere.logic.commands.SFilterCommand;
 import foodwhere.logic.commands.SFindCommand;
 import foodwhere.logic.commands.SListCommand;
 import foodwhere.logic.commands.SSortCommand;
+import foodwhere.logic.commands.SStatsCommand;
 import foodwhere.logic.parser.exceptions.ParseException;
 import foodwhere.model.commons.Name;
 import foodwhere.model.commons.Tag;
@@ -117,6 +125,44 @@ public class AddressBookParserTest {
         assertEquals(new RFindCommand(new ReviewContainsKeywordsPredicate(nameKeywords, tagKeywords)), command);
     }
 
+    @Test
+    public void parseCommand_sbest() throws Exception {
+        SBestCommand command = (SBestCommand) parser.parseCommand(SBestCommand.COMMAND_WORD + " 3 t/halal");
+        assertEquals(new SBestCommand(3, SBestCommand.DEFAULT_MIN_REVIEWS, Optional.of(new Tag("halal"))), command);
+    }
+
+    @Test
+    public void parseCommand_sstats() throws Exception {
+        SStatsCommand command = (SStatsCommand) parser.parseCommand(
+                SStatsCommand.COMMAND_WORD + " " + TypicalIndexes.INDEX_FIRST_STALL.getOneBased());
+        assertEquals(new SStatsCommand(TypicalIndexes.INDEX_FIRST_STALL), command);
+    }
+
+    @Test
+    public void parseCommand_rdate() throws Exception {
+        RDateCommand command = (RDateCommand) parser.parseCommand(RDateCommand.COMMAND_WORD + " 7");
+        assertEquals(new RDateCommand(7), command);
+    }
+
+    @Test
+    public void parseCommand_rfilter() throws Exception {
+        RFilterCommand command = (RFilterCommand) parser.parseCommand(RFilterCommand.COMMAND_WORD + " t/bar OR n/foo");
+        assertEquals(new RFilterCommand(QueryParser.parse("t/bar OR n/foo")), command);
+    }
+
+    @Test
+    public void parseCommand_sfilter() throws Exception {
+        SFilterCommand command = (SFilterCommand) parser.parseCommand(SFilterCommand.COMMAND_WORD + " NOT t/bar");
+        assertEquals(new SFilterCommand(QueryParser.parse("NOT t/bar")), command);
+    }
+
+    @Test
+    public void parseCommand_rsearch() throws Exception {
+        RSearchCommand command = (RSearchCommand) parser.parseCommand(
+                RSearchCommand.COMMAND_WORD + " " + "c/spicy noodles");
+        assertEquals(new RSearchCommand("spicy noodles"), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -129,6 +175,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(SListCommand.COMMAND_WORD + " 3") instanceof SListCommand);
     }
 
+    @Test
+    public void parseCommand_rfacets() throws Exception {
+        assertTrue(parser.parseCommand(RFacetsCommand.COMMAND_WORD) instanceof RFacetsCommand);
+        assertTrue(parser.parseCommand(RFacetsCommand.COMMAND_WORD + " 3") instanceof RFacetsCommand);
+    }
+
     @Test
     public void parseCommand_rlist() throws Exception {
         assertTrue(parser.parseCommand(RListCommand.COMMAND_WORD) instanceof RListCommand);
@@ -0,0 +1,88 @@
+package foodwhere.logic.parser;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.logic.parser.exceptions.ParseException;
+import foodwhere.model.commons.Name;
+import foodwhere.model.commons.Tag;
+import foodwhere.model.query.CompoundQuery;
+import foodwhere.model.query.CompoundQuery.Operator;
+import foodwhere.model.query.DateTerm;
+import foodwhere.model.query.NameTerm;
+import foodwhere.model.query.NotQuery;
+import foodwhere.model.query.Query;
+import foodwhere.model.query.RatingTerm;
+import foodwhere.model.query.TagTerm;
+import foodwhere.model.review.Date;
+import foodwhere.model.review.Rating;
+
+public class QueryParserTest {
+
+    private static final Query NAME_CHICKEN = new NameTerm(new Name("chicken"));
+    private static final Query TAG_HALAL = new TagTerm(new Tag("halal"));
+    private static final Query TAG_CHEAP = new TagTerm(new Tag("cheap"));
+
+    @Test
+    public void parse_terms_success() throws Exception {
+        assertEquals(NAME_CHICKEN, QueryParser.parse("n/chicken"));
+        assertEquals(TAG_HALAL, QueryParser.parse(" t/HALAL "));
+        assertEquals(new RatingTerm(4, 4), QueryParser.parse("r/4"));
+        assertEquals(new RatingTerm(3, 5), QueryParser.parse("r/3..5"));
+        assertEquals(new RatingTerm(3, Rating.MAX_RATING), QueryParser.parse("r/3.."));
+        assertEquals(new RatingTerm(Rating.MIN_RATING, 2), QueryParser.parse("r/..2"));
+        assertEquals(new DateTerm(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31)),
+                QueryParser.parse("d/1/1/2022..31-12-2022"));
+        assertEquals(new DateTerm(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 1, 1)),
+                QueryParser.parse("d/01/01/2022"));
+        assertEquals(new DateTerm(LocalDate.MIN, LocalDate.of(2022, 1, 1)), QueryParser.parse("d/..01/01/2022"));
+    }
+
+    @Test
+    public void parse_operators_precedenceRespected() throws Exception {
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertEquals(new CompoundQuery(Operator.OR, Arrays.asList(
+                new CompoundQuery(Operator.AND, Arrays.asList(NAME_CHICKEN, new NotQuery(TAG_HALAL))),
+                TAG_CHEAP)), QueryParser.parse("n/chicken AND NOT t/halal OR t/cheap"));
+
+        // adjacent terms are combined with AND, and operators are case-insensitive
+        assertEquals(new CompoundQuery(Operator.AND, Arrays.asList(NAME_CHICKEN, TAG_HALAL, TAG_CHEAP)),
+                QueryParser.parse("n/chicken t/halal and t/cheap"));
+
+        // parentheses
+        assertEquals(new CompoundQuery(Operator.AND, Arrays.asList(NAME_CHICKEN,
+                new CompoundQuery(Operator.OR, Arrays.asList(TAG_HALAL, TAG_CHEAP)))),
+                QueryParser.parse("n/chicken AND (t/halal OR t/cheap)"));
+        assertEquals(new NotQuery(new NotQuery(TAG_HALAL)), QueryParser.parse("NOT ((NOT t/halal))"));
+    }
+
+    @Test
+    public void parse_invalidStructure_throwsParseException() {
+        assertThrows(ParseException.class, QueryParser.MESSAGE_EMPTY_QUERY, () -> QueryParser.parse("  "));
+        assertThrows(ParseException.class, QueryParser.MESSAGE_UNEXPECTED_END, () -> QueryParser.parse("t/a AND"));
+        assertThrows(ParseException.class, QueryParser.MESSAGE_UNEXPECTED_END, () -> QueryParser.parse("(t/a"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNEXPECTED_TOKEN, ")"), ()
+            -> QueryParser.parse("t/a)"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNEXPECTED_TOKEN, "OR"), ()
+            -> QueryParser.parse("OR t/a"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_INVALID_TERM, "halal"), ()
+            -> QueryParser.parse("halal"));
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertThrows(ParseException.class, Name.MESSAGE_CONSTRAINTS, () -> QueryParser.parse("n/"));
+        assertThrows(ParseException.class, Tag.MESSAGE_CONSTRAINTS, () -> QueryParser.parse("t/ha-lal"));
+        assertThrows(ParseException.class, Rating.MESSAGE_CONSTRAINTS, () -> QueryParser.parse("r/"));
+        assertThrows(ParseException.class, Rating.MESSAGE_CONSTRAINTS, () -> QueryParser.parse("r/3..6"));
+        assertThrows(ParseException.class, RatingTerm.MESSAGE_CONSTRAINTS, () -> QueryParser.parse("r/4..3"));
+        assertThrows(ParseException.class, Date.MESSAGE_CONSTRAINTS, () -> QueryParser.parse("d/2022"));
+        assertThrows(ParseException.class, DateTerm.MESSAGE_CONSTRAINTS, ()
+            -> QueryParser.parse("d/02/01/2022..01/01/2022"));
+    }
+}
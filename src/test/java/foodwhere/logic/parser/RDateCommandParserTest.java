@@ -0,0 +1,46 @@
+package foodwhere.logic.parser;
+
+import static foodwhere.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static foodwhere.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.logic.commands.RDateCommand;
+import foodwhere.model.query.DateTerm;
+import foodwhere.model.review.Date;
+
+public class RDateCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, RDateCommand.MESSAGE_USAGE);
+
+    private RDateCommandParser parser = new RDateCommandParser();
+
+    @Test
+    public void parse_range_returnsRDateCommand() {
+        assertParseSuccess(parser, " d/01/01/2022..31-12-2022 ", new RDateCommand(
+                new DateTerm(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31))));
+        assertParseSuccess(parser, " d/01/01/2022..", new RDateCommand(
+                new DateTerm(LocalDate.of(2022, 1, 1), LocalDate.MAX)));
+        assertParseSuccess(parser, " d/01/01/2022", new RDateCommand(
+                new DateTerm(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 1, 1))));
+    }
+
+    @Test
+    public void parse_days_returnsRDateCommand() {
+        assertParseSuccess(parser, " 7 ", new RDateCommand(7));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 7 d/01/01/2022", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0", RDateCommand.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " seven", RDateCommand.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " d/2022", Date.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " d/31/12/2022..01/01/2022", DateTerm.MESSAGE_CONSTRAINTS);
+    }
+}
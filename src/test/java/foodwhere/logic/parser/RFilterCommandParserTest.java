@@ -0,0 +1,34 @@
+package foodwhere.logic.parser;
+
+import static foodwhere.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static foodwhere.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.logic.commands.RFilterCommand;
+import foodwhere.model.commons.Tag;
+import foodwhere.model.query.CompoundQuery;
+import foodwhere.model.query.RatingTerm;
+import foodwhere.model.query.TagTerm;
+
+public class RFilterCommandParserTest {
+
+    private RFilterCommandParser parser = new RFilterCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRFilterCommand() {
+        assertParseSuccess(parser, " t/halal r/4..5", new RFilterCommand(new CompoundQuery(CompoundQuery.Operator.AND,
+                Arrays.asList(new TagTerm(new Tag("halal")), new RatingTerm(4, 5)))));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "  ",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, RFilterCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " t/halal AND",
+                QueryParser.MESSAGE_UNEXPECTED_END);
+    }
+}
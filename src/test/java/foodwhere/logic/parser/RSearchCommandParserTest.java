@@ -0,0 +1,38 @@
+package foodwhere.logic.parser;
+
+import static foodwhere.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static foodwhere.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static foodwhere.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.commons.core.Messages;
+import foodwhere.logic.commands.RSearchCommand;
+
+public class RSearchCommandParserTest {
+
+    private RSearchCommandParser parser = new RSearchCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRSearchCommand() {
+        assertParseSuccess(parser, " c/spicy noodles ", new RSearchCommand("spicy noodles"));
+
+        // punctuation around words
+        assertParseSuccess(parser, " c/Great view!", new RSearchCommand("Great view!"));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, RSearchCommand.MESSAGE_USAGE);
+
+        // missing prefix
+        assertParseFailure(parser, " spicy noodles", expectedMessage);
+
+        // no words
+        assertParseFailure(parser, " c/", expectedMessage);
+        assertParseFailure(parser, " c/ !! ...", expectedMessage);
+
+        // non-empty preamble
+        assertParseFailure(parser, PREAMBLE_NON_EMPTY + " c/spicy", expectedMessage);
+    }
+}
@@ -4,6 +4,8 @@ import static foodwhere.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static foodwhere.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static foodwhere.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import foodwhere.logic.commands.RSortCommand;
@@ -17,6 +19,8 @@ public class RSortCommandParserTest {
     public void parse_validArgs_returnsRSortCommand() {
         assertParseSuccess(parser, "name", new RSortCommand(ReviewsComparatorList.valueOf("NAME")));
         assertParseSuccess(parser, "Name", new RSortCommand(ReviewsComparatorList.valueOf("NAME")));
+        assertParseSuccess(parser, " reversedrating \t reverseddate ", new RSortCommand(Arrays.asList(
+                ReviewsComparatorList.valueOf("REVERSEDRATING"), ReviewsComparatorList.valueOf("REVERSEDDATE"))));
     }
 
     @Test
@@ -25,5 +29,7 @@ public class RSortCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, RSortCommand.MESSAGE_USAGE));
         assertParseFailure(parser, "notSupportedCriterion",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, RSortCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "name notSupportedCriterion",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RSortCommand.MESSAGE_USAGE));
     }
 }
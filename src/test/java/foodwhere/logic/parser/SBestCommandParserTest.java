@@ -0,0 +1,37 @@
+package foodwhere.logic.parser;
+
+import static foodwhere.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static foodwhere.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.logic.commands.SBestCommand;
+import foodwhere.model.commons.Tag;
+
+public class SBestCommandParserTest {
+
+    private SBestCommandParser parser = new SBestCommandParser();
+
+    @Test
+    public void parse_noArgs_defaultsUsed() {
+        assertParseSuccess(parser, "  ", new SBestCommand(SBestCommand.DEFAULT_COUNT,
+                SBestCommand.DEFAULT_MIN_REVIEWS, Optional.empty()));
+    }
+
+    @Test
+    public void parse_allArgs_returnsSBestCommand() {
+        assertParseSuccess(parser, " 3 m/2 t/Halal", new SBestCommand(3, 2, Optional.of(new Tag("halal"))));
+        assertParseSuccess(parser, " t/halal", new SBestCommand(SBestCommand.DEFAULT_COUNT,
+                SBestCommand.DEFAULT_MIN_REVIEWS, Optional.of(new Tag("halal"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " 0", SBestCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " three", SBestCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " 3 m/-1", SBestCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " 3 t/not a tag", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -4,6 +4,8 @@ import static foodwhere.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static foodwhere.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static foodwhere.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import foodwhere.logic.commands.SSortCommand;
@@ -17,6 +19,8 @@ public class SSortCommandParserTest {
     public void parse_validArgs_returnsSSortCommand() {
         assertParseSuccess(parser, "name", new SSortCommand(StallsComparatorList.valueOf("NAME")));
         assertParseSuccess(parser, "Name", new SSortCommand(StallsComparatorList.valueOf("NAME")));
+        assertParseSuccess(parser, " reversedrating \t name ", new SSortCommand(Arrays.asList(
+                StallsComparatorList.valueOf("REVERSEDRATING"), StallsComparatorList.valueOf("NAME"))));
     }
 
     @Test
@@ -25,5 +29,7 @@ public class SSortCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, SSortCommand.MESSAGE_USAGE));
         assertParseFailure(parser, "notSupportedCriterion",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, SSortCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "name notSupportedCriterion",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SSortCommand.MESSAGE_USAGE));
     }
 }
@@ -10,23 +10,33 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import foodwhere.model.commons.Name;
+import foodwhere.model.commons.Tag;
 import foodwhere.model.review.Review;
 import foodwhere.model.review.ReviewBuilder;
 import foodwhere.model.review.comparator.ReviewsComparatorList;
 import foodwhere.model.review.exceptions.DuplicateReviewException;
+import foodwhere.model.stall.RatingStats;
 import foodwhere.model.stall.Stall;
 import foodwhere.model.stall.StallBuilder;
+import foodwhere.model.stall.StallIdentity;
 import foodwhere.model.stall.comparator.StallsComparatorList;
 import foodwhere.model.stall.exceptions.DuplicateStallException;
 import foodwhere.model.stall.exceptions.StallNotFoundException;
+import foodwhere.testutil.TypicalReviews;
+import foodwhere.testutil.TypicalStalls;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -74,6 +84,94 @@ public class AddressBookTest {
         assertNotEquals(addressBook, null);
     }
 
+    @Test
+    public void constructor_withStallList_containsStallsAndReviews() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AddressBook addressBook = new AddressBook(typicalAddressBook.getStallList());
+
+        assertEquals(typicalAddressBook, addressBook);
+        assertEquals(typicalAddressBook.getReviewList(), addressBook.getReviewList());
+    }
+
+    @Test
+    public void constructor_withDuplicateStalls_throwsDuplicateStallException() {
+        Stall editedAlice = new StallBuilder(ALICE).withTags(VALID_TAG_HUSBAND)
+                .build();
+        assertThrows(DuplicateStallException.class, () -> new AddressBook(Arrays.asList(ALICE, editedAlice)));
+    }
+
+    @Test
+    public void getModificationVersion_dataChanged_increases() {
+        long version = addressBook.getModificationVersion();
+        addressBook.addStall(ALICE);
+        assertTrue(addressBook.getModificationVersion() > version);
+
+        version = addressBook.getModificationVersion();
+        addressBook.removeStall(ALICE);
+        assertTrue(addressBook.getModificationVersion() > version);
+    }
+
+    @Test
+    public void getModificationVersion_dataUnchanged_staysSame() {
+        addressBook.resetData(getTypicalAddressBook());
+        long version = addressBook.getModificationVersion();
+
+        addressBook.sortStalls(StallsComparatorList.NAME.getComparator());
+        assertThrows(DuplicateStallException.class, () -> addressBook.addStall(ALICE));
+        assertEquals(version, addressBook.getModificationVersion());
+    }
+
+    @Test
+    public void getLastChange_stallChanges_linkedInOrder() {
+        assertFalse(addressBook.getLastChange().isPresent());
+
+        addressBook.addStall(ALICE);
+        Stall editedAlice = new StallBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setStall(ALICE, editedAlice);
+        addressBook.removeStall(editedAlice);
+
+        AddressBookChange removal = addressBook.getLastChange().get();
+        assertEquals(Optional.of(editedAlice), removal.getOldStall());
+        assertFalse(removal.getNewStall().isPresent());
+        AddressBookChange edit = removal.getPrevious().get();
+        assertEquals(Optional.of(ALICE), edit.getOldStall());
+        assertEquals(Optional.of(editedAlice), edit.getNewStall());
+        AddressBookChange addition = edit.getPrevious().get();
+        assertFalse(addition.getOldStall().isPresent());
+        assertEquals(Optional.of(ALICE), addition.getNewStall());
+        assertFalse(addition.getPrevious().isPresent());
+    }
+
+    @Test
+    public void getLastChange_stallsReset_recordsStallList() {
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBookChange reset = addressBook.getLastChange().get();
+        assertTrue(reset.isReset());
+        assertEquals(Optional.of(getTypicalAddressBook().getStallList()), reset.getStalls());
+
+        // reordering the stalls is recorded as a reset, as the order is saved
+        addressBook.sortStalls(StallsComparatorList.REVERSEDNAME.getComparator());
+        AddressBookChange reorder = addressBook.getLastChange().get();
+        assertTrue(reorder.isReset());
+        assertEquals(Optional.of(addressBook.getStallList()), reorder.getStalls());
+        assertEquals(Optional.of(reset), reorder.getPrevious());
+    }
+
+    @Test
+    public void getLastChange_manyChanges_onlyRecentChangesLinked() {
+        for (int i = 0; i <= AddressBookChange.MAX_LINKED_CHANGES; i++) {
+            addressBook.addStall(ALICE);
+            addressBook.removeStall(ALICE);
+        }
+
+        int linkedCount = 0;
+        for (Optional<AddressBookChange> change = addressBook.getLastChange(); change.isPresent();
+                change = change.get().getPrevious()) {
+            linkedCount++;
+        }
+        assertTrue(linkedCount <= AddressBookChange.MAX_LINKED_CHANGES);
+    }
+
     @Test
     public void hasStall_nullStall_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasStall(null));
@@ -174,6 +272,41 @@ public class AddressBookTest {
         assertEquals(0, addressBook.getStallList().size());
     }
 
+    @Test
+    public void addStallRemoveStall_stallWithReviews_updatesReviewList() {
+        String testName = "test stall";
+        Review firstReview = new ReviewBuilder().withName(testName).withContent("first").build();
+        Review secondReview = new ReviewBuilder().withName(testName).withContent("second").build();
+        Stall testStall = new StallBuilder().withName(testName).withReviews(firstReview, secondReview).build();
+        Stall otherStall = new StallBuilder().withName("other stall").build();
+        addressBook.addStall(otherStall);
+        addressBook.addReview(new ReviewBuilder().withName("other stall").build());
+
+        addressBook.addStall(testStall);
+        assertEquals(3, addressBook.getReviewList().size());
+        assertTrue(addressBook.getReviewList().containsAll(testStall.getReviews()));
+
+        addressBook.removeStall(testStall);
+        assertEquals(1, addressBook.getReviewList().size());
+        assertFalse(addressBook.hasReview(firstReview));
+        assertFalse(addressBook.hasReview(secondReview));
+    }
+
+    @Test
+    public void setReview_reviewList_onlyEditedReviewReplaced() {
+        String testName = "test stall";
+        Review firstReview = new ReviewBuilder().withName(testName).withContent("first").build();
+        Review secondReview = new ReviewBuilder().withName(testName).withContent("second").build();
+        addressBook.addStall(new StallBuilder().withName(testName).build());
+        addressBook.addReview(firstReview);
+        addressBook.addReview(secondReview);
+
+        Review editedReview = new ReviewBuilder(firstReview).withContent("edited").build();
+        addressBook.setReview(firstReview, editedReview);
+
+        assertEquals(List.of(secondReview, editedReview), addressBook.getReviewList());
+    }
+
     @Test
     public void removeStallRemoveReview_notInBook_throwsStallNotFoundException() {
         String testName = "test stall";
@@ -554,6 +687,166 @@ public class AddressBookTest {
         assertEquals(sampleReviewListOrderedReversed, addressBook.getReviewList());
     }
 
+    @Test
+    public void getStallsWithAnyTag_stallsChanged_indexUpdated() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Tag> owesMoney = Collections.singletonList(new Tag("owesMoney"));
+        List<Tag> friendsAndHawker = Arrays.asList(new Tag("friends"), new Tag("hawker"));
+        assertEquals(Collections.singleton(new StallIdentity(TypicalStalls.BENSON)),
+                addressBook.getStallsWithAnyTag(owesMoney));
+        assertEquals(new HashSet<>(Arrays.asList(new StallIdentity(ALICE), new StallIdentity(TypicalStalls.BENSON),
+                new StallIdentity(TypicalStalls.DANIEL))), addressBook.getStallsWithAnyTag(friendsAndHawker));
+
+        // edited tags and names
+        Stall benson = addressBook.findStall(new StallIdentity(TypicalStalls.BENSON)).get();
+        Stall editedBenson = new StallBuilder(benson).withName("Benson Renamed").withTags("hawker").build();
+        addressBook.setStall(benson, editedBenson);
+        assertEquals(Collections.emptySet(), addressBook.getStallsWithAnyTag(owesMoney));
+        assertTrue(addressBook.getStallsWithAnyTag(friendsAndHawker).contains(new StallIdentity(editedBenson)));
+
+        // removed stall
+        addressBook.removeStall(editedBenson);
+        assertFalse(addressBook.getStallsWithAnyTag(friendsAndHawker).contains(new StallIdentity(editedBenson)));
+
+        // replaced data
+        addressBook.resetData(new AddressBook());
+        assertEquals(Collections.emptySet(), addressBook.getStallsWithAnyTag(friendsAndHawker));
+    }
+
+    @Test
+    public void getReviewsWithAnyTag_reviewsChanged_indexUpdated() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Tag> owesMoney = Collections.singletonList(new Tag("owesMoney"));
+        assertEquals(Collections.singleton(TypicalReviews.BENSON), addressBook.getReviewsWithAnyTag(owesMoney));
+
+        Review editedBenson = new ReviewBuilder(TypicalReviews.BENSON).withTags("hawker").build();
+        addressBook.setReview(TypicalReviews.BENSON, editedBenson);
+        assertEquals(Collections.emptySet(), addressBook.getReviewsWithAnyTag(owesMoney));
+        assertEquals(Collections.singleton(editedBenson),
+                addressBook.getReviewsWithAnyTag(Collections.singletonList(new Tag("hawker"))));
+
+        addressBook.removeReview(editedBenson);
+        assertEquals(Collections.emptySet(),
+                addressBook.getReviewsWithAnyTag(Collections.singletonList(new Tag("hawker"))));
+    }
+
+    @Test
+    public void ratingStats_reviewsChanged_statsUpdated() {
+        AddressBook addressBook = getTypicalAddressBook();
+        StallIdentity alice = new StallIdentity(ALICE);
+        Review newReview = new ReviewBuilder(TypicalReviews.ALICE).withContent("new").withRating(5).build();
+        addressBook.addReview(newReview);
+        assertRatingStatsUpToDate(addressBook, alice, 2);
+
+        Review editedReview = new ReviewBuilder(newReview).withDate("01/01/2030").withRating(0).build();
+        addressBook.setReview(newReview, editedReview);
+        assertRatingStatsUpToDate(addressBook, alice, 2);
+        assertEquals(Optional.of(LocalDate.of(2030, 1, 1)),
+                addressBook.findStall(alice).get().getRatingStats().getLatestDate());
+
+        addressBook.removeReview(editedReview);
+        assertRatingStatsUpToDate(addressBook, alice, 1);
+        assertEquals(Optional.of(TypicalReviews.ALICE.getDate().date),
+                addressBook.findStall(alice).get().getRatingStats().getLatestDate());
+    }
+
+    private static void assertRatingStatsUpToDate(AddressBook addressBook, StallIdentity identity, int count) {
+        Stall stall = addressBook.findStall(identity).get();
+        assertEquals(count, stall.getRatingStats().getCount());
+        assertEquals(RatingStats.of(stall.getReviews()), stall.getRatingStats());
+    }
+
+    @Test
+    public void getTopRatedStalls_variousCriteria_bestStallsFirst() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.setReview(TypicalReviews.ALICE, new ReviewBuilder(TypicalReviews.ALICE).withRating(5).build());
+        addressBook.setReview(TypicalReviews.BENSON, new ReviewBuilder(TypicalReviews.BENSON).withRating(1).build());
+        Review secondCarl = new ReviewBuilder(TypicalReviews.CARL).withContent("again").withRating(3).build();
+        addressBook.addReview(secondCarl);
+
+        // ties on average rating are broken by number of reviews, then by name
+        assertEquals(Arrays.asList(new StallIdentity(ALICE), new StallIdentity(TypicalStalls.CARL),
+                new StallIdentity(TypicalStalls.DANIEL)), toIdentities(
+                addressBook.getTopRatedStalls(3, 1, Optional.empty())));
+        assertEquals(Collections.singletonList(new StallIdentity(TypicalStalls.CARL)),
+                toIdentities(addressBook.getTopRatedStalls(3, 2, Optional.empty())));
+        assertEquals(Arrays.asList(new StallIdentity(ALICE), new StallIdentity(TypicalStalls.DANIEL),
+                new StallIdentity(TypicalStalls.BENSON)), toIdentities(
+                addressBook.getTopRatedStalls(5, 1, Optional.of(new Tag("friends")))));
+        assertEquals(Collections.emptyList(), addressBook.getTopRatedStalls(5, 1, Optional.of(new Tag("unused"))));
+
+        // stalls without reviews are not ranked
+        addressBook.addStall(new StallBuilder().withName("Unreviewed").build());
+        assertEquals(getTypicalStalls().size(), addressBook.getTopRatedStalls(100, 0, Optional.empty()).size());
+    }
+
+    private static List<StallIdentity> toIdentities(List<Stall> stalls) {
+        List<StallIdentity> identities = new ArrayList<>();
+        for (Stall stall : stalls) {
+            identities.add(new StallIdentity(stall));
+        }
+        return identities;
+    }
+
+    @Test
+    public void getReviewsBetween_reviewsChanged_indexUpdated() {
+        AddressBook addressBook = getTypicalAddressBook();
+        LocalDate from = LocalDate.of(2020, 1, 1);
+        LocalDate to = LocalDate.of(2020, 12, 31);
+        assertEquals(Arrays.asList(TypicalReviews.ALICE, TypicalReviews.DANIEL, TypicalReviews.CARL),
+                addressBook.getReviewsBetween(from, to));
+
+        Review editedCarl = new ReviewBuilder(TypicalReviews.CARL).withDate("01/01/2019").build();
+        addressBook.setReview(TypicalReviews.CARL, editedCarl);
+        assertEquals(Arrays.asList(TypicalReviews.ALICE, TypicalReviews.DANIEL),
+                addressBook.getReviewsBetween(from, to));
+        assertEquals(Arrays.asList(editedCarl),
+                addressBook.getReviewsBetween(LocalDate.of(2018, 1, 1), from.minusDays(1)));
+
+        addressBook.removeReview(TypicalReviews.ALICE);
+        assertEquals(Arrays.asList(TypicalReviews.DANIEL), addressBook.getReviewsBetween(from, to));
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(Collections.emptyList(), addressBook.getReviewsBetween(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void getStallsWithAnyNameWord_stallsChanged_indexUpdated() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Name> meierAndRenamed = Arrays.asList(new Name("MEIER"), new Name("renamed"));
+        assertEquals(new HashSet<>(Arrays.asList(new StallIdentity(TypicalStalls.BENSON),
+                new StallIdentity(TypicalStalls.DANIEL))), addressBook.getStallsWithAnyNameWord(meierAndRenamed));
+        assertEquals(Collections.emptySet(),
+                addressBook.getStallsWithAnyNameWord(Collections.singletonList(new Name("Meie"))));
+
+        Stall benson = addressBook.findStall(new StallIdentity(TypicalStalls.BENSON)).get();
+        Stall editedBenson = new StallBuilder(benson).withName("Benson Renamed").build();
+        addressBook.setStall(benson, editedBenson);
+        assertEquals(new HashSet<>(Arrays.asList(new StallIdentity(editedBenson),
+                new StallIdentity(TypicalStalls.DANIEL))), addressBook.getStallsWithAnyNameWord(meierAndRenamed));
+
+        addressBook.removeStall(editedBenson);
+        assertEquals(Collections.singleton(new StallIdentity(TypicalStalls.DANIEL)),
+                addressBook.getStallsWithAnyNameWord(meierAndRenamed));
+    }
+
+    @Test
+    public void getReviewsWithAnyNameWord_reviewsChanged_indexUpdated() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Name> meier = Collections.singletonList(new Name("meier"));
+        assertEquals(new HashSet<>(Arrays.asList(TypicalReviews.BENSON, TypicalReviews.DANIEL)),
+                addressBook.getReviewsWithAnyNameWord(meier));
+
+        addressBook.removeReview(TypicalReviews.BENSON);
+        assertEquals(Collections.singleton(TypicalReviews.DANIEL), addressBook.getReviewsWithAnyNameWord(meier));
+    }
+
+    @Test
+    public void getStallsWithAnyNameWord_multipleWordKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> addressBook
+                .getStallsWithAnyNameWord(Collections.singletonList(new Name("Alice Pauline"))));
+    }
+
     @Test
     public void equals_notEqualCases_isCorrect() {
         // same object -> equals return true
@@ -603,6 +896,11 @@ public class AddressBookTest {
         public ObservableList<Review> getReviewList() {
             return reviews;
         }
+
+        @Override
+        public Optional<AddressBookChange> getLastChange() {
+            return Optional.empty();
+        }
     }
 
 }
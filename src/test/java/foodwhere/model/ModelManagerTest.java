@@ -25,6 +25,8 @@ import foodwhere.model.commons.Name;
 import foodwhere.model.review.Review;
 import foodwhere.model.review.ReviewBuilder;
 import foodwhere.model.review.comparator.ReviewsComparatorList;
+import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallBuilder;
 import foodwhere.model.stall.StallContainsKeywordsPredicate;
 import foodwhere.model.stall.comparator.StallsComparatorList;
 import foodwhere.model.stall.exceptions.DuplicateStallException;
@@ -100,6 +102,16 @@ public class ModelManagerTest {
         assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
     }
 
+    @Test
+    public void setAddressBook_filteredLists_allStallsAndReviewsShown() {
+        modelManager.updateFilteredStallList(unused -> false);
+        modelManager.updateFilteredReviewList(unused -> false);
+
+        modelManager.setAddressBook(TypicalStalls.getTypicalAddressBook());
+        assertEquals(modelManager.getAddressBook().getStallList(), modelManager.getFilteredStallList());
+        assertEquals(modelManager.getAddressBook().getReviewList(), modelManager.getFilteredReviewList());
+    }
+
     @Test
     public void hasStall_nullStall_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasStall(null));
@@ -165,6 +177,19 @@ public class ModelManagerTest {
         assertThrows(NullPointerException.class, () -> modelManager.setStall(null, null));
     }
 
+    @Test
+    public void setStall_filteredLists_allStallsAndReviewsShown() {
+        modelManager.addStall(ALICE);
+        modelManager.addReview(TypicalReviews.ALICE);
+        modelManager.updateFilteredStallList(unused -> false);
+        modelManager.updateFilteredReviewList(unused -> false);
+
+        Stall alice = modelManager.getAddressBook().getStallList().get(0);
+        modelManager.setStall(alice, new StallBuilder(alice).withTags("hawker").build());
+        assertEquals(1, modelManager.getFilteredStallList().size());
+        assertEquals(1, modelManager.getFilteredReviewList().size());
+    }
+
     @Test
     public void sortStall_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.sortStalls(null));
@@ -262,6 +287,19 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasReview(CARL));
     }
 
+    @Test
+    public void deleteReview_filteredLists_allStallsShown() {
+        modelManager.addStall(TypicalStalls.CARL);
+        modelManager.addReview(CARL);
+        modelManager.addReview(new ReviewBuilder(CARL).withDate("02/04/2020").build());
+        modelManager.updateFilteredStallList(unused -> false);
+        modelManager.updateFilteredReviewList(unused -> false);
+
+        modelManager.deleteReview(CARL);
+        assertEquals(1, modelManager.getFilteredStallList().size());
+        assertEquals(0, modelManager.getFilteredReviewList().size());
+    }
+
     @Test
     public void deleteReview_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.deleteReview(null));
@@ -306,6 +344,18 @@ public class ModelManagerTest {
         assertTrue(modelManager.getFilteredReviewList().get(0).equals(editedReview));
     }
 
+    @Test
+    public void setReview_filteredLists_allStallsAndReviewsShown() {
+        modelManager.addStall(ALICE);
+        modelManager.addReview(TypicalReviews.ALICE);
+        modelManager.updateFilteredStallList(unused -> false);
+        modelManager.updateFilteredReviewList(unused -> false);
+
+        modelManager.setReview(TypicalReviews.ALICE, new ReviewBuilder(TypicalReviews.ALICE).withRating(5).build());
+        assertEquals(1, modelManager.getFilteredStallList().size());
+        assertEquals(1, modelManager.getFilteredReviewList().size());
+    }
+
     @Test
     public void getFilteredReviewList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredReviewList().remove(0));
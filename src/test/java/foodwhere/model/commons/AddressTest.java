@@ -1,7 +1,10 @@
 package foodwhere.model.commons;
 
 import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -33,4 +36,15 @@ public class AddressTest {
         assertTrue(Address.isValidAddress("-")); // one character
         assertTrue(Address.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA")); // long address
     }
+
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> Address.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Address.of(" "));
+
+        Address address = Address.of("Blk 456, Den Road, #01-355");
+        assertSame(address, Address.of(new String("Blk 456, Den Road, #01-355")));
+        assertEquals(new Address("Blk 456, Den Road, #01-355"), address);
+        assertNotSame(address, Address.of("BLK 456, Den Road, #01-355"));
+    }
 }
@@ -1,9 +1,14 @@
 package foodwhere.model.commons;
 
 import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -45,4 +50,61 @@ public class NameTest {
         assertTrue(new Name("BOB").equals(new Name("bob"))); //case insensitive
 
     }
+
+    @Test
+    public void hashCode_caseInsensitive_consistentWithEquals() {
+        assertEquals(new Name("Bob").hashCode(), new Name("bob").hashCode());
+        assertEquals(new Name("Peter the 2nd").hashCode(), new Name("PETER THE 2ND").hashCode());
+    }
+
+    @Test
+    public void getFoldedWords_multipleSpaces_caseFoldedWords() {
+        assertEquals(Arrays.asList("peter", "the", "2nd"), new Name("Peter  the 2ND ").getFoldedWords());
+    }
+
+    @Test
+    public void containsWord() {
+        Name name = new Name("Peter the 2nd");
+
+        // invalid words
+        assertThrows(NullPointerException.class, () -> name.containsWord(null));
+        assertThrows(IllegalArgumentException.class, () -> name.containsWord("  "));
+        assertThrows(IllegalArgumentException.class, () -> name.containsWord("the 2nd"));
+
+        // matching words, ignoring case and surrounding spaces
+        assertTrue(name.containsWord("peter"));
+        assertTrue(name.containsWord(" THE "));
+        assertTrue(name.containsWord("2nD"));
+
+        // partial words do not match
+        assertFalse(name.containsWord("pete"));
+        assertFalse(name.containsWord("2"));
+    }
+
+    @Test
+    public void compareToIgnoreCase_sameOrderAsFullNames() {
+        String[] names = {"alice", "Alice", "ALICE B", "alice a", "Bob", "bob 2", "9 lives", "10 Lives", "a"};
+        for (String first : names) {
+            for (String second : names) {
+                assertEquals(Integer.signum(first.compareToIgnoreCase(second)),
+                        Integer.signum(new Name(first).compareToIgnoreCase(new Name(second))));
+            }
+        }
+    }
+
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> Name.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Name.of(" "));
+
+        Name name = Name.of("Peter Jack");
+        assertSame(name, Name.of(new String("Peter Jack")));
+        assertEquals(new Name("Peter Jack"), name);
+
+        // names differing only in case are equal, but keep their own case
+        Name lowerCaseName = Name.of("peter jack");
+        assertNotSame(name, lowerCaseName);
+        assertEquals(name, lowerCaseName);
+        assertEquals("peter jack", lowerCaseName.fullName);
+    }
 }
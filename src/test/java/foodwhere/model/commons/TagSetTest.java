@@ -0,0 +1,92 @@
+package foodwhere.model.commons;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag HALAL = Tag.of("halal");
+    private static final Tag SPICY = Tag.of("spicy");
+    private static final Tag CHEAP = Tag.of("cheap");
+
+    @Test
+    public void of_tags_sameAsHashSet() {
+        Set<Tag> expected = new HashSet<>(Arrays.asList(HALAL, SPICY, new Tag("Halal")));
+        TagSet tags = TagSet.of(expected);
+
+        assertEquals(expected, tags);
+        assertEquals(tags, expected);
+        assertEquals(expected.hashCode(), tags.hashCode());
+        assertEquals(2, tags.size());
+        assertTrue(tags.contains(new Tag("HALAL")));
+        assertFalse(tags.contains(CHEAP));
+        assertFalse(tags.contains("halal"));
+        assertSame(tags, TagSet.of(tags));
+        assertSame(TagSet.empty(), TagSet.of(new HashSet<>()));
+    }
+
+    @Test
+    public void iterator_tagsInIdOrder() {
+        List<Tag> iterated = new ArrayList<>();
+        TagSet.of(Arrays.asList(CHEAP, SPICY, HALAL)).forEach(iterated::add);
+        assertEquals(3, iterated.size());
+        for (int i = 1; i < iterated.size(); i++) {
+            assertTrue(iterated.get(i - 1).getId() < iterated.get(i).getId());
+        }
+        assertTrue(iterated.contains(HALAL));
+        assertSame(TagDictionary.getTag(HALAL.getId()), iterated.get(iterated.indexOf(HALAL)));
+    }
+
+    @Test
+    public void forEachId_manyTags_allIdsVisited() {
+        List<Tag> manyTags = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            manyTags.add(Tag.of("tagSetTest" + i));
+        }
+        TagSet tags = TagSet.of(manyTags);
+        List<Integer> ids = new ArrayList<>();
+        tags.forEachId(ids::add);
+
+        assertEquals(150, tags.size());
+        assertEquals(150, ids.size());
+        for (Tag tag : manyTags) {
+            assertTrue(ids.contains(tag.getId()));
+            assertTrue(tags.containsId(tag.getId()));
+        }
+        assertEquals(new HashSet<>(manyTags), tags);
+    }
+
+    @Test
+    public void intersects_containsAll() {
+        TagSet halalAndSpicy = TagSet.of(Arrays.asList(HALAL, SPICY));
+        TagSet spicy = TagSet.of(Arrays.asList(SPICY));
+        TagSet cheap = TagSet.of(Arrays.asList(CHEAP));
+
+        assertTrue(halalAndSpicy.intersects(spicy));
+        assertFalse(halalAndSpicy.intersects(cheap));
+        assertFalse(halalAndSpicy.intersects(TagSet.empty()));
+        assertTrue(halalAndSpicy.containsAll(spicy));
+        assertFalse(spicy.containsAll(halalAndSpicy));
+        assertTrue(halalAndSpicy.containsAll(Arrays.asList(HALAL, SPICY)));
+        assertFalse(halalAndSpicy.containsAll(cheap));
+    }
+
+    @Test
+    public void modifySet_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Arrays.asList(HALAL));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(SPICY));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(HALAL));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+    }
+}
@@ -1,6 +1,8 @@
 package foodwhere.model.commons;
 
 import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -30,4 +32,25 @@ public class TagTest {
         assertTrue(new Tag("BOB").equals(new Tag("bob"))); //case insensitive
     }
 
+
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("#friend"));
+
+        Tag tag = Tag.of("halal");
+        assertSame(tag, Tag.of(new String("halal")));
+        assertSame(tag, Tag.of("Halal"));
+        assertEquals(new Tag("HALAL"), tag);
+    }
+
+    @Test
+    public void getId() {
+        Tag tag = new Tag("TagIdTest");
+        assertEquals(tag.getId(), Tag.of("tagidtest").getId());
+        assertEquals(tag, TagDictionary.getTag(tag.getId()));
+        assertTrue(tag.getId() < TagDictionary.size());
+        assertTrue(tag.getId() != new Tag("OtherTagIdTest").getId());
+        assertThrows(IllegalArgumentException.class, () -> TagDictionary.getTag(TagDictionary.size()));
+    }
 }
@@ -0,0 +1,110 @@
+package foodwhere.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryPlanTest {
+
+    private static final List<Integer> ITEMS = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    private static final QueryIndex<Integer, Integer> INDEX = new QueryIndex<Integer, Integer>() {
+        @Override
+        public Integer getKey(Integer item) {
+            return item;
+        }
+
+        @Override
+        public Optional<Set<Integer>> find(QueryTerm term) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean test(Integer item, QueryTerm term) {
+            throw new AssertionError("This method should not be called.");
+        }
+    };
+
+    private final QueryPlan<Integer, Integer> lowNumbers = QueryPlan.ofMatches(INDEX, setOf(1, 2, 3, 4, 5));
+    private final QueryPlan<Integer, Integer> oddNumbers = QueryPlan.ofMatches(INDEX, setOf(1, 3, 5, 7, 9));
+    private final QueryPlan<Integer, Integer> multiplesOfThree = QueryPlan.ofPredicate(INDEX, item -> item % 3 == 0);
+
+    @Test
+    public void and_indexedPlans_candidatesIntersected() {
+        QueryPlan<Integer, Integer> plan = QueryPlan.and(INDEX, Arrays.asList(lowNumbers, oddNumbers));
+        assertTrue(plan.isExact());
+        assertEquals(Optional.of(setOf(1, 3, 5)), plan.getCandidates());
+        assertEquals(Arrays.asList(1, 3, 5), filter(plan.toPredicate()));
+    }
+
+    @Test
+    public void and_withResidualPredicate_predicateTestedOnCandidatesOnly() {
+        Set<Integer> tested = new HashSet<>();
+        QueryPlan<Integer, Integer> counting = QueryPlan.ofPredicate(INDEX, item -> tested.add(item) && item > 2);
+        QueryPlan<Integer, Integer> plan = QueryPlan.and(INDEX, Arrays.asList(counting, lowNumbers));
+
+        assertFalse(plan.isExact());
+        assertEquals(Optional.of(setOf(1, 2, 3, 4, 5)), plan.getCandidates());
+        assertEquals(Arrays.asList(3, 4, 5), filter(plan.toPredicate()));
+        assertEquals(setOf(1, 2, 3, 4, 5), tested);
+    }
+
+    @Test
+    public void or_indexedPlans_candidatesUnited() {
+        QueryPlan<Integer, Integer> plan = QueryPlan.or(INDEX, Arrays.asList(lowNumbers, oddNumbers));
+        assertTrue(plan.isExact());
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 7, 9), filter(plan.toPredicate()));
+    }
+
+    @Test
+    public void or_withResidualPredicate_noCandidates() {
+        QueryPlan<Integer, Integer> plan = QueryPlan.or(INDEX, Arrays.asList(oddNumbers, multiplesOfThree));
+        assertEquals(Optional.empty(), plan.getCandidates());
+        assertEquals(Arrays.asList(1, 3, 5, 6, 7, 9), filter(plan.toPredicate()));
+
+        // candidates are kept if every operand has candidates
+        QueryPlan<Integer, Integer> lowMultiplesOfThree = QueryPlan.and(INDEX,
+                Arrays.asList(lowNumbers, multiplesOfThree));
+        plan = QueryPlan.or(INDEX, Arrays.asList(oddNumbers, lowMultiplesOfThree));
+        assertEquals(Optional.of(setOf(1, 2, 3, 4, 5, 7, 9)), plan.getCandidates());
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), filter(plan.toPredicate()));
+    }
+
+    @Test
+    public void not_indexedPlan_complementMatched() {
+        QueryPlan<Integer, Integer> plan = QueryPlan.not(INDEX, lowNumbers);
+        assertEquals(Optional.empty(), plan.getCandidates());
+        assertEquals(Arrays.asList(6, 7, 8, 9, 10), filter(plan.toPredicate()));
+
+        // a negated operand of AND only narrows down the other candidates
+        plan = QueryPlan.and(INDEX, Arrays.asList(oddNumbers, QueryPlan.not(INDEX, lowNumbers)));
+        assertEquals(Optional.of(setOf(1, 3, 5, 7, 9)), plan.getCandidates());
+        assertEquals(Arrays.asList(7, 9), filter(plan.toPredicate()));
+    }
+
+    @Test
+    public void and_emptyCandidates_nothingMatched() {
+        QueryPlan<Integer, Integer> none = QueryPlan.ofMatches(INDEX, Collections.emptySet());
+        QueryPlan<Integer, Integer> plan = QueryPlan.and(INDEX, Arrays.asList(none, lowNumbers, multiplesOfThree));
+        assertEquals(Optional.of(Collections.emptySet()), plan.getCandidates());
+        assertEquals(Collections.emptyList(), filter(plan.toPredicate()));
+    }
+
+    private static Set<Integer> setOf(Integer... items) {
+        return new HashSet<>(Arrays.asList(items));
+    }
+
+    private static List<Integer> filter(Predicate<Integer> predicate) {
+        return ITEMS.stream().filter(predicate).collect(Collectors.toList());
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class DateTest {
@@ -108,4 +110,12 @@ public class DateTest {
         // throws
         assertThrows(NullPointerException.class, () -> new Date("1/1/2000").compareTo(null));
     }
+
+    @Test
+    public void getEpochDay() {
+        assertEquals(0, new Date("01/01/1970").getEpochDay());
+        assertEquals(-1, new Date("31-12-1969").getEpochDay());
+        assertEquals(LocalDate.of(2020, 2, 29).toEpochDay(), new Date("29/02/2020").getEpochDay());
+        assertTrue(new Date("01/01/2020").compareTo(new Date("02/01/2020")) < 0);
+    }
 }
@@ -73,4 +73,10 @@ public class RatingTest {
         Review testReviewWManyTag = new ReviewBuilder(testReviewWOneTag).withTags(tags).build();
         assertEquals("tag, tag2, tag3", testReviewWManyTag.getTagString());
     }
+
+    @Test
+    public void intValue() {
+        assertEquals(0, new Rating("0").intValue());
+        assertEquals(5, new Rating("5").intValue());
+    }
 }
@@ -0,0 +1,83 @@
+package foodwhere.model.review;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class ReviewContentIndexTest {
+
+    private static final Review SPICY = new ReviewBuilder().withName("Spicy Stall")
+            .withDate("01/01/2022").withContent("Spicy noodles, very spicy!").build();
+    private static final Review NOODLES = new ReviewBuilder().withName("Noodle Stall")
+            .withDate("02/01/2022")
+            .withContent("The noodles were cold and the soup was bland, but the service was friendly.").build();
+    private static final Review RICE = new ReviewBuilder().withName("Rice Stall")
+            .withDate("03/01/2022").withContent("Fragrant rice").build();
+    private static final Review OLDER_RICE = new ReviewBuilder().withName("Rice Stall")
+            .withDate("01/12/2021").withContent("Fragrant rice").build();
+
+    private final ReviewContentIndex index = new ReviewContentIndex();
+
+    @Test
+    public void toWords_punctuationAndCase_caseFoldedWords() {
+        assertEquals(Arrays.asList("spicy", "noodles", "very", "spicy"),
+                ReviewContentIndex.toWords("Spicy noodles, very SPICY!"));
+        assertEquals(Collections.emptyList(), ReviewContentIndex.toWords(" !?. "));
+    }
+
+    @Test
+    public void search_noMatchingWords_emptyResult() {
+        index.add(SPICY);
+        assertEquals(Collections.emptyList(), index.search("rice", 10));
+        assertEquals(Collections.emptyList(), new ReviewContentIndex().search("rice", 10));
+    }
+
+    @Test
+    public void search_multipleWords_rankedByRelevance() {
+        index.add(NOODLES);
+        index.add(SPICY);
+        index.add(RICE);
+
+        // more occurrences in a shorter content ranks higher
+        assertEquals(Arrays.asList(SPICY, NOODLES), index.search("noodles", 10));
+
+        // a rarer word outweighs a common word
+        assertEquals(Arrays.asList(SPICY, NOODLES), index.search("NOODLES spicy", 10));
+        assertEquals(Arrays.asList(RICE, SPICY, NOODLES), index.search("fragrant rice noodles", 10));
+    }
+
+    @Test
+    public void search_limit_topReviewsReturned() {
+        index.add(NOODLES);
+        index.add(SPICY);
+        index.add(RICE);
+
+        assertEquals(Collections.singletonList(RICE), index.search("fragrant rice noodles", 1));
+        assertEquals(Arrays.asList(RICE, SPICY), index.search("fragrant rice noodles", 2));
+        assertThrows(IllegalArgumentException.class, () -> index.search("rice", 0));
+    }
+
+    @Test
+    public void search_equalScores_newerReviewFirst() {
+        index.add(OLDER_RICE);
+        index.add(RICE);
+        assertEquals(Arrays.asList(RICE, OLDER_RICE), index.search("rice", 10));
+    }
+
+    @Test
+    public void remove_indexedReview_notFound() {
+        index.add(SPICY);
+        index.add(NOODLES);
+        index.remove(SPICY);
+        index.remove(RICE);
+
+        assertEquals(Collections.singletonList(NOODLES), index.search("noodles spicy", 10));
+
+        index.clear();
+        assertEquals(Collections.emptyList(), index.search("noodles", 10));
+    }
+}
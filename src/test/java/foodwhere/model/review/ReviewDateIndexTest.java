@@ -0,0 +1,75 @@
+package foodwhere.model.review;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class ReviewDateIndexTest {
+
+    private static final Review NEW_YEAR = new ReviewBuilder().withName("New Year Stall")
+            .withDate("01/01/2022").build();
+    private static final Review NEW_YEAR_OTHER = new ReviewBuilder().withName("Other Stall")
+            .withDate("01/01/2022").build();
+    private static final Review LEAP_DAY = new ReviewBuilder().withName("Leap Stall")
+            .withDate("29/02/2020").build();
+    private static final Review CHRISTMAS = new ReviewBuilder().withName("Christmas Stall")
+            .withDate("25/12/2022").build();
+
+    private final ReviewDateIndex index = new ReviewDateIndex();
+
+    @Test
+    public void getBetween_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getBetween(null, LocalDate.MAX));
+        assertThrows(NullPointerException.class, () -> index.getBetween(LocalDate.MIN, null));
+    }
+
+    @Test
+    public void getBetween_range_reviewsInRangeEarliestFirst() {
+        index.add(CHRISTMAS);
+        index.add(NEW_YEAR);
+        index.add(LEAP_DAY);
+        index.add(NEW_YEAR_OTHER);
+
+        assertEquals(Arrays.asList(LEAP_DAY, NEW_YEAR, NEW_YEAR_OTHER, CHRISTMAS),
+                index.getBetween(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(Arrays.asList(NEW_YEAR, NEW_YEAR_OTHER, CHRISTMAS),
+                index.getBetween(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 25)));
+        assertEquals(Arrays.asList(LEAP_DAY),
+                index.getBetween(LocalDate.of(2020, 2, 29), LocalDate.of(2020, 2, 29)));
+        assertEquals(Collections.emptyList(),
+                index.getBetween(LocalDate.of(2022, 1, 2), LocalDate.of(2022, 12, 24)));
+    }
+
+    @Test
+    public void getBetween_fromAfterTo_emptyList() {
+        index.add(NEW_YEAR);
+        assertEquals(Collections.emptyList(), index.getBetween(LocalDate.MAX, LocalDate.MIN));
+    }
+
+    @Test
+    public void add_duplicate_indexedOnce() {
+        index.add(NEW_YEAR);
+        index.add(NEW_YEAR);
+        assertEquals(Arrays.asList(NEW_YEAR), index.getBetween(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void remove_indexedAndUnindexedReviews_removedReviewsNotFound() {
+        index.add(NEW_YEAR);
+        index.add(NEW_YEAR_OTHER);
+        index.add(LEAP_DAY);
+
+        index.remove(NEW_YEAR);
+        index.remove(LEAP_DAY);
+        index.remove(CHRISTMAS);
+        assertEquals(Arrays.asList(NEW_YEAR_OTHER), index.getBetween(LocalDate.MIN, LocalDate.MAX));
+
+        index.clear();
+        assertEquals(Collections.emptyList(), index.getBetween(LocalDate.MIN, LocalDate.MAX));
+    }
+}
@@ -0,0 +1,62 @@
+package foodwhere.model.review;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.model.commons.Tag;
+import foodwhere.testutil.TypicalReviews;
+
+public class ReviewFacetsTest {
+
+    @Test
+    public void of_noReviews_allCountsZero() {
+        ReviewFacets facets = ReviewFacets.of(Collections.emptyList());
+        assertEquals(0, facets.getReviewCount());
+        assertTrue(facets.getTagCounts().isEmpty());
+        assertTrue(facets.getMonthCounts().isEmpty());
+        assertEquals(0, facets.getRatingCount(Rating.MAX_RATING));
+        assertEquals(0, facets.getCount(Tag.of("friends")));
+    }
+
+    @Test
+    public void of_reviews_countsEachFacet() {
+        Review spicyAlice = new ReviewBuilder(TypicalReviews.ALICE).withContent("Spicy").withRating(5)
+                .withTags("spicy", "friends").build();
+        ReviewFacets facets = ReviewFacets.of(Arrays.asList(TypicalReviews.ALICE, TypicalReviews.BENSON,
+                TypicalReviews.CARL, TypicalReviews.DANIEL, spicyAlice));
+
+        assertEquals(5, facets.getReviewCount());
+
+        Map<Tag, Integer> expectedTags = new LinkedHashMap<>();
+        expectedTags.put(Tag.of("friends"), 4);
+        expectedTags.put(Tag.of("owesmoney"), 1);
+        expectedTags.put(Tag.of("spicy"), 1);
+        assertEquals(new ArrayList<>(expectedTags.entrySet()), new ArrayList<>(facets.getTagCounts().entrySet()));
+        assertEquals(4, facets.getCount(Tag.of("Friends")));
+        assertEquals(0, facets.getCount(Tag.of("husband")));
+
+        assertEquals(4, facets.getRatingCount(3));
+        assertEquals(1, facets.getRatingCount(5));
+        assertEquals(0, facets.getRatingCount(Rating.MIN_RATING));
+        assertThrows(IllegalArgumentException.class, () -> facets.getRatingCount(Rating.MAX_RATING + 1));
+
+        Map<YearMonth, Integer> expectedMonths = new TreeMap<>();
+        expectedMonths.put(YearMonth.of(2020, 1), 2);
+        expectedMonths.put(YearMonth.of(2020, 2), 1);
+        expectedMonths.put(YearMonth.of(2020, 4), 1);
+        expectedMonths.put(YearMonth.of(2021, 12), 1);
+        assertEquals(expectedMonths, facets.getMonthCounts());
+        assertEquals(YearMonth.of(2020, 1), facets.getMonthCounts().firstKey());
+    }
+}
@@ -0,0 +1,124 @@
+package foodwhere.model.review;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.testutil.TypicalReviews;
+
+public class ReviewSetTest {
+
+    @Test
+    public void of_reviewSet_returnsSameSet() {
+        ReviewSet reviews = ReviewSet.of(TypicalReviews.getTypicalReviews());
+        assertSame(reviews, ReviewSet.of(reviews));
+        assertEquals(new HashSet<>(TypicalReviews.getTypicalReviews()), reviews);
+    }
+
+    @Test
+    public void with_reviewAlreadyInSet_returnsSameSet() {
+        ReviewSet reviews = ReviewSet.empty().with(TypicalReviews.ALICE);
+        assertSame(reviews, reviews.with(TypicalReviews.ALICE));
+        assertSame(reviews, reviews.with(new ReviewBuilder(TypicalReviews.ALICE).build()));
+    }
+
+    @Test
+    public void without_reviewNotInSet_returnsSameSet() {
+        ReviewSet reviews = ReviewSet.empty().with(TypicalReviews.ALICE);
+        assertSame(reviews, reviews.without(TypicalReviews.BENSON));
+        assertSame(ReviewSet.empty(), ReviewSet.empty().without(TypicalReviews.BENSON));
+    }
+
+    @Test
+    public void with_withoutManyReviews_sameAsHashSet() {
+        List<Review> allReviews = createReviews(2000);
+        Random random = new Random(2103);
+        Set<Review> expected = new HashSet<>();
+        ReviewSet reviews = ReviewSet.empty();
+        for (int i = 0; i < 10000; i++) {
+            Review review = allReviews.get(random.nextInt(allReviews.size()));
+            if (random.nextInt(3) == 0) {
+                expected.remove(review);
+                reviews = reviews.without(review);
+            } else {
+                expected.add(review);
+                reviews = reviews.with(review);
+            }
+        }
+
+        assertEquals(expected.size(), reviews.size());
+        assertEquals(expected, reviews);
+        assertEquals(reviews, expected);
+        assertEquals(expected.hashCode(), reviews.hashCode());
+        for (Review review : allReviews) {
+            assertEquals(expected.contains(review), reviews.contains(review));
+        }
+        List<Review> iterated = new ArrayList<>();
+        reviews.forEach(iterated::add);
+        assertEquals(expected.size(), iterated.size());
+
+        for (Review review : allReviews) {
+            reviews = reviews.without(review);
+        }
+        assertTrue(reviews.isEmpty());
+        assertFalse(reviews.iterator().hasNext());
+    }
+
+    @Test
+    public void with_previousSet_unchanged() {
+        ReviewSet reviews = ReviewSet.of(TypicalReviews.getTypicalReviews());
+        ReviewSet added = reviews.with(TypicalReviews.BOB);
+        ReviewSet removed = reviews.without(TypicalReviews.ALICE);
+
+        assertEquals(new HashSet<>(TypicalReviews.getTypicalReviews()), reviews);
+        assertTrue(added.contains(TypicalReviews.BOB));
+        assertFalse(reviews.contains(TypicalReviews.BOB));
+        assertFalse(removed.contains(TypicalReviews.ALICE));
+        assertTrue(reviews.contains(TypicalReviews.ALICE));
+    }
+
+    @Test
+    public void diff_derivedSet_reportsOnlyChangedReviews() {
+        ReviewSet oldReviews = ReviewSet.of(createReviews(500));
+        Review removedReview = oldReviews.iterator().next();
+        ReviewSet newReviews = oldReviews.without(removedReview).with(TypicalReviews.BOB);
+
+        List<Review> removed = new ArrayList<>();
+        List<Review> added = new ArrayList<>();
+        ReviewSet.diff(oldReviews, newReviews, removed::add, added::add);
+        assertEquals(List.of(removedReview), removed);
+        assertEquals(List.of(TypicalReviews.BOB), added);
+
+        removed.clear();
+        added.clear();
+        ReviewSet.diff(ReviewSet.empty(), newReviews, removed::add, added::add);
+        assertTrue(removed.isEmpty());
+        assertEquals(newReviews, new HashSet<>(added));
+    }
+
+    @Test
+    public void modifySet_throwsUnsupportedOperationException() {
+        ReviewSet reviews = ReviewSet.of(TypicalReviews.getTypicalReviews());
+        assertThrows(UnsupportedOperationException.class, () -> reviews.add(TypicalReviews.BOB));
+        assertThrows(UnsupportedOperationException.class, () -> reviews.remove(TypicalReviews.ALICE));
+        assertThrows(UnsupportedOperationException.class, () -> reviews.clear());
+    }
+
+    private static List<Review> createReviews(int count) {
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            reviews.add(new ReviewBuilder(TypicalReviews.ALICE).withContent("Review " + i).build());
+        }
+        return reviews;
+    }
+}
@@ -1,9 +1,12 @@
 package foodwhere.model.review;
 
 import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Objects;
+
 import org.junit.jupiter.api.Test;
 
 import foodwhere.logic.commands.CommandTestUtil;
@@ -76,4 +79,12 @@ public class ReviewTest {
         editedAlice = new ReviewBuilder(TypicalReviews.ALICE).withTags(CommandTestUtil.VALID_TAG_HUSBAND).build();
         assertFalse(TypicalReviews.ALICE.equals(editedAlice));
     }
+
+    @Test
+    public void hashCode_equalReviews_sameHashCode() {
+        Review aliceCopy = new ReviewBuilder(TypicalReviews.ALICE).build();
+        assertEquals(TypicalReviews.ALICE.hashCode(), aliceCopy.hashCode());
+        assertEquals(Objects.hash(aliceCopy.getName(), aliceCopy.getAddress(), aliceCopy.getDate(),
+                aliceCopy.getContent(), aliceCopy.getRating(), aliceCopy.getTags()), aliceCopy.hashCode());
+    }
 }
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +49,15 @@ public class UniqueReviewListTest {
         assertFalse(uniqueReviewList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_reviewWithDifferentlyCasedStallNameInList_returnsTrue() {
+        uniqueReviewList.add(TypicalReviews.ALICE);
+        Review upperCaseAlice = new ReviewBuilder(TypicalReviews.ALICE)
+                .withName(TypicalReviews.ALICE.getName().fullName.toUpperCase())
+                .build();
+        assertTrue(uniqueReviewList.contains(upperCaseAlice));
+    }
+
     @Test
     public void add_nullReview_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueReviewList.add(null));
@@ -132,6 +142,35 @@ public class UniqueReviewListTest {
         uniqueReviewList.remove(TypicalReviews.ALICE);
         UniqueReviewList expectedUniqueReviewList = new UniqueReviewList();
         assertEquals(expectedUniqueReviewList, uniqueReviewList);
+        assertFalse(uniqueReviewList.contains(TypicalReviews.ALICE));
+    }
+
+    @Test
+    public void addAll_duplicateReview_throwsDuplicateReviewException() {
+        uniqueReviewList.add(TypicalReviews.ALICE);
+        assertThrows(DuplicateReviewException.class, () ->
+                uniqueReviewList.addAll(List.of(TypicalReviews.BOB, TypicalReviews.ALICE)));
+        assertThrows(DuplicateReviewException.class, () ->
+                uniqueReviewList.addAll(List.of(TypicalReviews.BOB, TypicalReviews.BOB)));
+        assertFalse(uniqueReviewList.contains(TypicalReviews.BOB));
+    }
+
+    @Test
+    public void addAllRemoveAll_existingReviews_success() {
+        uniqueReviewList.add(TypicalReviews.ALICE);
+        uniqueReviewList.addAll(List.of(TypicalReviews.BOB, TypicalReviews.CARL));
+        uniqueReviewList.removeAll(Set.of(TypicalReviews.ALICE, TypicalReviews.CARL));
+        UniqueReviewList expectedUniqueReviewList = new UniqueReviewList();
+        expectedUniqueReviewList.add(TypicalReviews.BOB);
+        assertEquals(expectedUniqueReviewList, uniqueReviewList);
+    }
+
+    @Test
+    public void removeAll_reviewDoesNotExist_throwsReviewNotFoundException() {
+        uniqueReviewList.add(TypicalReviews.ALICE);
+        assertThrows(ReviewNotFoundException.class, () ->
+                uniqueReviewList.removeAll(Set.of(TypicalReviews.ALICE, TypicalReviews.BOB)));
+        assertTrue(uniqueReviewList.contains(TypicalReviews.ALICE));
     }
 
     @Test
@@ -161,6 +200,8 @@ public class UniqueReviewListTest {
         UniqueReviewList expectedUniqueReviewList = new UniqueReviewList();
         expectedUniqueReviewList.add(TypicalReviews.BOB);
         assertEquals(expectedUniqueReviewList, uniqueReviewList);
+        assertFalse(uniqueReviewList.contains(TypicalReviews.ALICE));
+        assertTrue(uniqueReviewList.contains(TypicalReviews.BOB));
     }
 
     @Test
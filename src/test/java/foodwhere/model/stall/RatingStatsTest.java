@@ -0,0 +1,90 @@
+package foodwhere.model.stall;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.model.review.Review;
+import foodwhere.model.review.ReviewBuilder;
+
+public class RatingStatsTest {
+
+    private static final Review OLD_FIVE = new ReviewBuilder().withContent("old five")
+            .withDate("01/01/2020").withRating(5).build();
+    private static final Review NEW_ONE = new ReviewBuilder().withContent("new one")
+            .withDate("01/01/2022").withRating(1).build();
+    private static final Review NEW_FIVE = new ReviewBuilder().withContent("new five")
+            .withDate("01/01/2022").withRating(5).build();
+
+    @Test
+    public void empty_noReviews() {
+        assertEquals(0, RatingStats.EMPTY.getCount());
+        assertEquals(0, RatingStats.EMPTY.getSum());
+        assertEquals(OptionalDouble.empty(), RatingStats.EMPTY.getAverage());
+        assertEquals(Optional.empty(), RatingStats.EMPTY.getLatestDate());
+        assertEquals(RatingStats.EMPTY, RatingStats.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void withReview_reviewsAdded_aggregatesUpdated() {
+        RatingStats stats = RatingStats.EMPTY.withReview(OLD_FIVE).withReview(NEW_ONE).withReview(NEW_FIVE);
+        assertEquals(3, stats.getCount());
+        assertEquals(11, stats.getSum());
+        assertEquals(OptionalDouble.of(11.0 / 3), stats.getAverage());
+        assertEquals(2, stats.getCount(5));
+        assertEquals(1, stats.getCount(1));
+        assertEquals(0, stats.getCount(0));
+        assertEquals(Optional.of(LocalDate.of(2022, 1, 1)), stats.getLatestDate());
+        assertEquals(RatingStats.of(Arrays.asList(NEW_FIVE, OLD_FIVE, NEW_ONE)), stats);
+    }
+
+    @Test
+    public void withoutReview_reviewsRemoved_sameAsComputedFromRemainingReviews() {
+        RatingStats stats = RatingStats.of(Arrays.asList(OLD_FIVE, NEW_ONE, NEW_FIVE));
+
+        // another review on the latest date remains
+        RatingStats withoutNewOne = stats.withoutReview(NEW_ONE, Arrays.asList(OLD_FIVE, NEW_FIVE));
+        assertEquals(RatingStats.of(Arrays.asList(OLD_FIVE, NEW_FIVE)), withoutNewOne);
+        assertEquals(Optional.of(LocalDate.of(2022, 1, 1)), withoutNewOne.getLatestDate());
+
+        // the last review on the latest date is removed
+        RatingStats withOldFiveOnly = withoutNewOne.withoutReview(NEW_FIVE, Collections.singletonList(OLD_FIVE));
+        assertEquals(RatingStats.of(Collections.singletonList(OLD_FIVE)), withOldFiveOnly);
+        assertEquals(Optional.of(LocalDate.of(2020, 1, 1)), withOldFiveOnly.getLatestDate());
+
+        assertEquals(RatingStats.EMPTY, withOldFiveOnly.withoutReview(OLD_FIVE, Collections.emptyList()));
+    }
+
+    @Test
+    public void withoutReview_reviewNotAdded_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                RatingStats.EMPTY.withoutReview(OLD_FIVE, Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> RatingStats.EMPTY.withReview(OLD_FIVE)
+                .withoutReview(NEW_ONE, Collections.singletonList(OLD_FIVE)));
+    }
+
+    @Test
+    public void getCount_invalidRating_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> RatingStats.EMPTY.getCount(6));
+        assertThrows(IllegalArgumentException.class, () -> RatingStats.EMPTY.getCount(-1));
+    }
+
+    @Test
+    public void equals() {
+        RatingStats stats = RatingStats.of(Arrays.asList(OLD_FIVE, NEW_ONE));
+        assertTrue(stats.equals(stats));
+        assertTrue(stats.equals(RatingStats.EMPTY.withReview(NEW_ONE).withReview(OLD_FIVE)));
+        assertFalse(stats.equals(null));
+        assertFalse(stats.equals(1));
+        assertFalse(stats.equals(RatingStats.of(Arrays.asList(OLD_FIVE, NEW_FIVE))));
+    }
+}
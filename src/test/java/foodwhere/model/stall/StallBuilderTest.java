@@ -2,10 +2,12 @@ package foodwhere.model.stall;
 
 import static foodwhere.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 import foodwhere.model.review.Review;
+import foodwhere.model.review.ReviewBuilder;
 import foodwhere.model.review.exceptions.ReviewNotFoundException;
 import foodwhere.testutil.TypicalReviews;
 import foodwhere.testutil.TypicalStalls;
@@ -36,4 +38,18 @@ public class StallBuilderTest {
             assertEquals(newName, review.getName().fullName);
         }
     }
+
+    @Test
+    public void addReview_existingReviews_reusedInBuiltStall() {
+        Review existingReview = TypicalReviews.ALICE;
+        Review newReview = new ReviewBuilder(existingReview).withContent("Another review").build();
+        Stall oldStall = new StallBuilder(TypicalStalls.ALICE).addReview(existingReview).build();
+        Stall stall = new StallBuilder(oldStall).addReview(newReview).build();
+
+        assertEquals(2, stall.getReviews().size());
+        for (Review review : stall.getReviews()) {
+            assertTrue(review == existingReview || review == newReview);
+        }
+        assertEquals(oldStall.getRatingStats().withReview(newReview), stall.getRatingStats());
+    }
 }
@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.HashSet;
+import java.util.Objects;
+
 import org.junit.jupiter.api.Test;
 
 import foodwhere.logic.commands.CommandTestUtil;
@@ -97,6 +100,25 @@ public class StallTest {
         assertFalse(alice.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_equalStalls_sameHashCode() {
+        Stall stall = new StallBuilder(TypicalStalls.ALICE).addReview(TypicalReviews.ALICE).build();
+        Stall stallCopy = new Stall(stall.getName(), stall.getAddress(), stall.getTags(),
+                new HashSet<>(stall.getReviews()));
+        assertEquals(stall, stallCopy);
+        assertEquals(stall.hashCode(), stallCopy.hashCode());
+        assertEquals(Objects.hash(stall.getName(), stall.getAddress(), stall.getTags(), stall.getReviews()),
+                stall.hashCode());
+    }
+
+    @Test
+    public void getIdentity() {
+        Stall editedAlice = new StallBuilder(TypicalStalls.ALICE).withTags("hawker").build();
+        assertEquals(new StallIdentity(TypicalStalls.ALICE), TypicalStalls.ALICE.getIdentity());
+        assertEquals(TypicalStalls.ALICE.getIdentity(), editedAlice.getIdentity());
+        assertFalse(TypicalStalls.ALICE.getIdentity().equals(TypicalStalls.BOB.getIdentity()));
+    }
+
     @Test
     public void getTagString_generalTesting_success() {
         String testString = "test";
@@ -46,6 +46,31 @@ public class UniqueStallListTest {
         assertTrue(uniqueStallList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_stallWithDifferentlyCasedIdentityFieldsInList_returnsTrue() {
+        uniqueStallList.add(TypicalStalls.ALICE);
+        Stall upperCaseAlice = new StallBuilder(TypicalStalls.ALICE)
+                .withName(TypicalStalls.ALICE.getName().fullName.toUpperCase())
+                .withAddress(TypicalStalls.ALICE.getAddress().value.toUpperCase())
+                .build();
+        assertTrue(uniqueStallList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void getStall_stallInList_returnsStall() {
+        uniqueStallList.add(TypicalStalls.ALICE);
+        uniqueStallList.add(TypicalStalls.BOB);
+        assertEquals(TypicalStalls.BOB, uniqueStallList.getStall(new StallIdentity(TypicalStalls.BOB)));
+    }
+
+    @Test
+    public void getStall_stallNotInList_throwsStallNotFoundException() {
+        uniqueStallList.add(TypicalStalls.ALICE);
+        uniqueStallList.setStall(TypicalStalls.ALICE, TypicalStalls.BOB);
+        assertThrows(StallNotFoundException.class, () ->
+                uniqueStallList.getStall(new StallIdentity(TypicalStalls.ALICE)));
+    }
+
     @Test
     public void add_nullStall_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStallList.add(null));
@@ -123,12 +148,23 @@ public class UniqueStallListTest {
         assertThrows(StallNotFoundException.class, () -> uniqueStallList.remove(TypicalStalls.ALICE));
     }
 
+    @Test
+    public void remove_stallWithSameIdentityButDifferentFields_throwsStallNotFoundException() {
+        uniqueStallList.add(TypicalStalls.ALICE);
+        Stall editedAlice = new StallBuilder(TypicalStalls.ALICE)
+                .withTags(CommandTestUtil.VALID_TAG_HUSBAND)
+                .build();
+        assertThrows(StallNotFoundException.class, () -> uniqueStallList.remove(editedAlice));
+        assertTrue(uniqueStallList.contains(TypicalStalls.ALICE));
+    }
+
     @Test
     public void remove_existingStall_removesStall() {
         uniqueStallList.add(TypicalStalls.ALICE);
         uniqueStallList.remove(TypicalStalls.ALICE);
         UniqueStallList expectedUniqueStallList = new UniqueStallList();
         assertEquals(expectedUniqueStallList, uniqueStallList);
+        assertFalse(uniqueStallList.contains(TypicalStalls.ALICE));
     }
 
     @Test
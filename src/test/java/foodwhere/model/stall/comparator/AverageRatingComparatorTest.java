@@ -0,0 +1,55 @@
+package foodwhere.model.stall.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.model.review.ReviewBuilder;
+import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallBuilder;
+
+public class AverageRatingComparatorTest {
+
+    private static final Stall UNREVIEWED = new StallBuilder().withName("Unreviewed").build();
+    private static final Stall LOW = new StallBuilder().withName("Low").withReviews(
+            new ReviewBuilder().withContent("a").withRating(0).build(),
+            new ReviewBuilder().withContent("b").withRating(3).build()).build();
+    private static final Stall HIGH = new StallBuilder().withName("High").withReviews(
+            new ReviewBuilder().withContent("a").withRating(2).build()).build();
+
+    final AverageRatingComparator testComparator = new AverageRatingComparator();
+
+    @Test
+    public void compare_generalTesting_success() {
+        // 1.5 < 2 -> return < 0
+        assertTrue(testComparator.compare(LOW, HIGH) < 0);
+
+        // no reviews < any average -> return < 0
+        assertTrue(testComparator.compare(UNREVIEWED, LOW) < 0);
+
+        // same average -> return 0
+        assertTrue(testComparator.compare(HIGH, HIGH) == 0);
+        assertTrue(testComparator.compare(UNREVIEWED, UNREVIEWED) == 0);
+
+        // reversed comparator -> highest first, unreviewed last
+        assertTrue(testComparator.reversed().compare(HIGH, LOW) < 0);
+        assertTrue(testComparator.reversed().compare(UNREVIEWED, LOW) > 0);
+    }
+
+    @Test
+    public void compare_nullStalls_throwNullPointerException() {
+        assertThrows(NullPointerException.class, () -> testComparator.compare(null, null));
+        assertThrows(NullPointerException.class, () -> testComparator.compare(LOW, null));
+        assertThrows(NullPointerException.class, () -> testComparator.compare(null, LOW));
+    }
+
+    @Test
+    public void equals_generalTesting_success() {
+        assertTrue(testComparator.equals(testComparator));
+        assertFalse(testComparator.equals(null));
+        assertFalse(testComparator.equals(new ReviewCountComparator()));
+        assertTrue(testComparator.equals(new AverageRatingComparator()));
+    }
+}
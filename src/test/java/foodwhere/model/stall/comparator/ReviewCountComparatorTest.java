@@ -0,0 +1,43 @@
+package foodwhere.model.stall.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.model.review.ReviewBuilder;
+import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallBuilder;
+
+public class ReviewCountComparatorTest {
+
+    private static final Stall UNREVIEWED = new StallBuilder().withName("Unreviewed").build();
+    private static final Stall TWO_REVIEWS = new StallBuilder().withName("Two").withReviews(
+            new ReviewBuilder().withContent("a").build(),
+            new ReviewBuilder().withContent("b").build()).build();
+
+    final ReviewCountComparator testComparator = new ReviewCountComparator();
+
+    @Test
+    public void compare_generalTesting_success() {
+        assertTrue(testComparator.compare(UNREVIEWED, TWO_REVIEWS) < 0);
+        assertTrue(testComparator.compare(TWO_REVIEWS, TWO_REVIEWS) == 0);
+        assertTrue(testComparator.compare(TWO_REVIEWS, UNREVIEWED) > 0);
+        assertTrue(testComparator.reversed().compare(UNREVIEWED, TWO_REVIEWS) > 0);
+    }
+
+    @Test
+    public void compare_nullStalls_throwNullPointerException() {
+        assertThrows(NullPointerException.class, () -> testComparator.compare(null, TWO_REVIEWS));
+        assertThrows(NullPointerException.class, () -> testComparator.compare(TWO_REVIEWS, null));
+    }
+
+    @Test
+    public void equals_generalTesting_success() {
+        assertTrue(testComparator.equals(testComparator));
+        assertFalse(testComparator.equals(null));
+        assertFalse(testComparator.equals(new AverageRatingComparator()));
+        assertTrue(testComparator.equals(new ReviewCountComparator()));
+    }
+}
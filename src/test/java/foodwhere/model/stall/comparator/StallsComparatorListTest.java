@@ -20,5 +20,11 @@ public class StallsComparatorListTest {
     public void getComparator_generalTesting_success() {
         assertTrue(new NameComparator().equals(StallsComparatorList.NAME.getComparator()));
         assertTrue(new NameComparator().reversed().equals(StallsComparatorList.REVERSEDNAME.getComparator()));
+        assertTrue(new AverageRatingComparator().equals(StallsComparatorList.RATING.getComparator()));
+        assertTrue(new AverageRatingComparator().reversed()
+                .equals(StallsComparatorList.REVERSEDRATING.getComparator()));
+        assertTrue(new ReviewCountComparator().equals(StallsComparatorList.REVIEWS.getComparator()));
+        assertTrue(new ReviewCountComparator().reversed()
+                .equals(StallsComparatorList.REVERSEDREVIEWS.getComparator()));
     }
 }
@@ -0,0 +1,46 @@
+package foodwhere.model.util;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<StringBuilder> interner = new Interner<>(StringBuilder::toString);
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null, StringBuilder::new));
+        assertThrows(NullPointerException.class, () -> interner.intern("key", null));
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_sameKey_returnsSameInstance() {
+        StringBuilder value = interner.intern("key", StringBuilder::new);
+        assertSame(value, interner.intern(new String("key"), StringBuilder::new));
+        assertSame(value, interner.intern(new StringBuilder("key")));
+        assertEquals("key", value.toString());
+    }
+
+    @Test
+    public void intern_differentKeys_returnsDifferentInstances() {
+        StringBuilder value = interner.intern("key", StringBuilder::new);
+        assertNotSame(value, interner.intern("Key", StringBuilder::new));
+        StringBuilder otherValue = new StringBuilder("other");
+        assertSame(otherValue, interner.intern(otherValue));
+        assertSame(otherValue, interner.intern("other", StringBuilder::new));
+    }
+
+    @Test
+    public void intern_factoryThrows_exceptionPassedOnAndNothingPooled() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("key", key -> {
+            throw new IllegalArgumentException();
+        }));
+        StringBuilder value = new StringBuilder("key");
+        assertSame(value, interner.intern(value));
+    }
+}
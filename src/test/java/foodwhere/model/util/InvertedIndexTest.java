@@ -0,0 +1,66 @@
+package foodwhere.model.util;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+public class InvertedIndexTest {
+
+    private final InvertedIndex<String, Integer> index = new InvertedIndex<>();
+
+    @Test
+    public void add_multipleKeys_postedUnderEachKey() {
+        index.add(Arrays.asList("a", "b"), 1);
+        index.add(Collections.singletonList("b"), 2);
+
+        assertEquals(Collections.singleton(1), index.get("a"));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), index.get("b"));
+        assertEquals(Collections.emptySet(), index.get("c"));
+    }
+
+    @Test
+    public void remove_postedValue_removedFromEachKey() {
+        index.add(Arrays.asList("a", "b"), 1);
+        index.add(Collections.singletonList("b"), 2);
+
+        index.remove(Arrays.asList("a", "b"), 1);
+        index.remove(Collections.singletonList("c"), 1);
+
+        assertEquals(Collections.emptySet(), index.get("a"));
+        assertEquals(Collections.singleton(2), index.get("b"));
+    }
+
+    @Test
+    public void getAny_multipleKeys_returnsUnion() {
+        index.add(Arrays.asList("a", "b"), 1);
+        index.add(Collections.singletonList("b"), 2);
+        index.add(Collections.singletonList("c"), 3);
+
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), index.getAny(Arrays.asList("a", "b", "d")));
+        assertEquals(Collections.emptySet(), index.getAny(Collections.emptyList()));
+    }
+
+    @Test
+    public void clear_postedValues_allRemoved() {
+        index.add(Arrays.asList("a", "b"), 1);
+        index.clear();
+        assertEquals(Collections.emptySet(), index.getAny(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    public void get_postings_unmodifiable() {
+        index.add(Collections.singletonList("a"), 1);
+        assertThrows(UnsupportedOperationException.class, () -> index.get("a").add(2));
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null, 1));
+        assertThrows(NullPointerException.class, () -> index.add(Collections.singletonList("a"), null));
+    }
+}
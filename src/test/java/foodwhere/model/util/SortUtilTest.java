@@ -0,0 +1,51 @@
+package foodwhere.model.util;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class SortUtilTest {
+
+    /** Orders strings by their first character only, so that the stability of sorting can be checked. */
+    private static final Comparator<String> FIRST_CHARACTER = Comparator.comparing(string -> string.charAt(0));
+
+    @Test
+    public void sort_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SortUtil.sort(null, FIRST_CHARACTER));
+        assertThrows(NullPointerException.class, () ->
+                SortUtil.sort(FXCollections.observableArrayList(), null));
+    }
+
+    @Test
+    public void sort_smallList_sortedStably() {
+        assertSortedStably(10);
+    }
+
+    @Test
+    public void sort_largeList_sortedStably() {
+        assertSortedStably(SortUtil.PARALLEL_SORT_THRESHOLD * 4);
+    }
+
+    private static void assertSortedStably(int size) {
+        Random random = new Random(size);
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            items.add((char) ('a' + random.nextInt(26)) + Integer.toString(i));
+        }
+        List<String> expected = new ArrayList<>(items);
+        expected.sort(FIRST_CHARACTER);
+
+        ObservableList<String> list = FXCollections.observableArrayList(items);
+        SortUtil.sort(list, FIRST_CHARACTER);
+        assertEquals(expected, list);
+    }
+}
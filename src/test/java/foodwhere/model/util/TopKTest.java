@@ -0,0 +1,38 @@
+package foodwhere.model.util;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+public class TopKTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new TopK<Integer>(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TopK<Integer>(Comparator.naturalOrder(), 0));
+    }
+
+    @Test
+    public void toList_moreItemsThanK_firstKInOrder() {
+        TopK<Integer> topK = new TopK<>(Comparator.reverseOrder(), 3);
+        for (int item : Arrays.asList(5, 1, 9, 7, 3, 9, 2)) {
+            topK.offer(item);
+        }
+        assertEquals(Arrays.asList(9, 9, 7), topK.toList());
+    }
+
+    @Test
+    public void toList_fewerItemsThanK_allItemsInOrder() {
+        TopK<Integer> topK = new TopK<>(Comparator.naturalOrder(), 5);
+        assertEquals(Collections.emptyList(), topK.toList());
+
+        topK.offer(4);
+        topK.offer(2);
+        assertEquals(Arrays.asList(2, 4), topK.toList());
+    }
+}
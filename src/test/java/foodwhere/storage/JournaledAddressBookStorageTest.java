@@ -0,0 +1,269 @@
+package foodwhere.storage;
+
+import static foodwhere.testutil.Assert.assertThrows;
+import static foodwhere.testutil.TypicalStalls.ALICE;
+import static foodwhere.testutil.TypicalStalls.BENSON;
+import static foodwhere.testutil.TypicalStalls.HOON;
+import static foodwhere.testutil.TypicalStalls.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import foodwhere.commons.exceptions.DataConversionException;
+import foodwhere.commons.util.FileUtil;
+import foodwhere.commons.util.JsonUtil;
+import foodwhere.model.AddressBook;
+import foodwhere.model.ReadOnlyAddressBook;
+import foodwhere.model.review.Review;
+import foodwhere.model.review.ReviewBuilder;
+import foodwhere.model.stall.Stall;
+import foodwhere.model.stall.StallBuilder;
+import foodwhere.model.stall.StallIdentity;
+import foodwhere.model.stall.comparator.StallsComparatorList;
+import foodwhere.testutil.TypicalReviews;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameData(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterRead_journaledAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // add and remove stalls
+        addressBook.addStall(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removeStall(addressBook.findStall(new StallIdentity(BENSON)).get());
+        storage.saveAddressBook(addressBook);
+
+        // add, edit and remove reviews
+        Review review = new ReviewBuilder(TypicalReviews.ALICE).withContent("Journaled").build();
+        addressBook.addReview(review);
+        storage.saveAddressBook(addressBook);
+        Review editedReview = new ReviewBuilder(review).withRating(1).build();
+        addressBook.setReview(review, editedReview);
+        storage.saveAddressBook(addressBook);
+        addressBook.removeReview(TypicalReviews.ALICE);
+        storage.saveAddressBook(addressBook);
+
+        // edit and rename stalls in place
+        Stall aliceInBook = addressBook.getStallList().get(0);
+        Stall editedAlice = new StallBuilder(aliceInBook).withTags("journaled").build();
+        addressBook.setStall(aliceInBook, editedAlice);
+        storage.saveAddressBook(addressBook);
+        Stall renamedAlice = new StallBuilder(editedAlice).withName("Alice Renamed").build();
+        addressBook.setStall(editedAlice, renamedAlice);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+        assertSameData(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_reorderedStalls_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        addressBook.addStall(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.sortStalls(StallsComparatorList.REVERSEDNAME.getComparator());
+        addressBook.removeStall(addressBook.findStall(new StallIdentity(ALICE)).get());
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameData(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        addressBook.addStall(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameData(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_compactionInterruptedBeforeJournalDeleted_journalReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = saveRenameAndReAdd(storage);
+
+        // the new snapshot has been written, but the journal has not been deleted
+        Path compactionFilePath = testFolder.resolve("addressBook.json"
+                + JournaledAddressBookStorage.COMPACTION_FILE_SUFFIX);
+        new JsonAddressBookStorage(compactionFilePath).saveAddressBook(addressBook);
+
+        assertSameData(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(compactionFilePath));
+    }
+
+    @Test
+    public void readAddressBook_compactionInterruptedAfterJournalDeleted_compactionFinished() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = saveRenameAndReAdd(storage);
+
+        // the new snapshot has been written and the journal deleted, but the old snapshot has not been replaced
+        Path compactionFilePath = testFolder.resolve("addressBook.json"
+                + JournaledAddressBookStorage.COMPACTION_FILE_SUFFIX);
+        new JsonAddressBookStorage(compactionFilePath).saveAddressBook(addressBook);
+        Files.delete(storage.getJournalFilePath());
+
+        assertSameData(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(compactionFilePath));
+        assertSameData(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unrelatedAddressBook_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook();
+
+        // the changes of this address book do not start from the data read
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStall(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameData(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entrySkipped() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.readAddressBook();
+        FileUtil.writeToFile(storage.getJournalFilePath(), "{\"operation\":\"DELETE_ST");
+
+        assertSameData(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        FileUtil.writeToFile(storage.getJournalFilePath(),
+                "{\"operation\":\"DELETE_STALL\",\"name\":\"\",\"address\":\"Nowhere\"}\n");
+
+        assertThrows(DataConversionException.class, () -> new JournaledAddressBookStorage(filePath)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_addExistingStall_throwsDataConversionException() throws Exception {
+        assertJournalRejected(JsonAdaptedJournalEntry.addStall(new StallBuilder(BENSON).withTags("hawker").build()));
+    }
+
+    @Test
+    public void readAddressBook_editMissingStall_throwsDataConversionException() throws Exception {
+        Stall editedHoon = new StallBuilder(HOON).withTags("hawker").build();
+        assertJournalRejected(JsonAdaptedJournalEntry.editStall(HOON, editedHoon));
+    }
+
+    @Test
+    public void readAddressBook_deleteMissingStall_throwsDataConversionException() throws Exception {
+        assertJournalRejected(JsonAdaptedJournalEntry.deleteStall(HOON));
+    }
+
+    @Test
+    public void readAddressBook_addExistingReview_throwsDataConversionException() throws Exception {
+        assertJournalRejected(JsonAdaptedJournalEntry.addReview(TypicalReviews.ALICE));
+    }
+
+    @Test
+    public void readAddressBook_addReviewToMissingStall_throwsDataConversionException() throws Exception {
+        Review review = new ReviewBuilder(TypicalReviews.ALICE).withName(HOON.getName().fullName)
+                .withAddress(HOON.getAddress().value).build();
+        assertJournalRejected(JsonAdaptedJournalEntry.addReview(review));
+    }
+
+    @Test
+    public void readAddressBook_deleteMissingReview_throwsDataConversionException() throws Exception {
+        Review review = new ReviewBuilder(TypicalReviews.ALICE).withDate("02/01/2020").build();
+        assertJournalRejected(JsonAdaptedJournalEntry.deleteReview(review));
+    }
+
+    /**
+     * Asserts that reading the typical address book with {@code entry} as its journal fails, as the entry cannot be
+     * applied to the typical address book as recorded.
+     */
+    private void assertJournalRejected(JsonAdaptedJournalEntry entry) throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        FileUtil.writeToFile(storage.getJournalFilePath(), JsonUtil.toCompactJsonString(entry) + "\n");
+
+        assertThrows(DataConversionException.class, () -> new JournaledAddressBookStorage(filePath)
+                .readAddressBook());
+    }
+
+    /**
+     * Saves the typical address book, then journals renaming {@code ALICE} and adding a stall with the old identity
+     * of {@code ALICE}, which cannot be replayed on top of a snapshot that already contains both changes.
+     *
+     * @return The address book after the changes.
+     */
+    private AddressBook saveRenameAndReAdd(JournaledAddressBookStorage storage) throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Stall alice = addressBook.findStall(new StallIdentity(ALICE)).get();
+        addressBook.setStall(alice, new StallBuilder(alice).withName("Alice Renamed").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.addStall(new StallBuilder(ALICE).build());
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+        return addressBook;
+    }
+
+    /**
+     * Asserts that {@code actual} has the same stalls in the same order, and the same reviews, as {@code expected}.
+     */
+    private void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getStallList(), actual.getStallList());
+        assertEquals(new HashSet<>(expected.getReviewList()), new HashSet<>(actual.getReviewList()));
+    }
+}
@@ -0,0 +1,58 @@
+package foodwhere.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import foodwhere.commons.exceptions.DataConversionException;
+import foodwhere.commons.exceptions.IllegalValueException;
+import foodwhere.commons.util.JsonUtil;
+import foodwhere.model.AddressBook;
+import foodwhere.testutil.TypicalStalls;
+
+public class JsonAddressBookReaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_STALLS_FILE = TEST_DATA_FOLDER.resolve("typicalStallsAddressBook.json");
+    private static final Path INVALID_STALL_FILE = TEST_DATA_FOLDER.resolve("invalidStallAddressBook.json");
+    private static final Path DUPLICATE_STALL_FILE = TEST_DATA_FOLDER.resolve("duplicateStallAddressBook.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    private final JsonAddressBookReader reader = new JsonAddressBookReader();
+
+    @Test
+    public void read_typicalStallsFile_success() throws Exception {
+        AddressBook addressBookFromFile = reader.read(TYPICAL_STALLS_FILE);
+        assertEquals(TypicalStalls.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void read_invalidStallFile_sameMessageAsSerializableAddressBook() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_STALL_FILE,
+                JsonSerializableAddressBook.class).get();
+        IllegalValueException expected = assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+
+        DataConversionException actual = assertThrows(DataConversionException.class, () ->
+                reader.read(INVALID_STALL_FILE));
+        assertTrue(actual.getCause() instanceof IllegalValueException);
+        assertEquals(expected.getMessage(), actual.getCause().getMessage());
+        assertTrue(actual.getMessage().startsWith("Invalid value at line "));
+    }
+
+    @Test
+    public void read_duplicateStalls_throwsDataConversionException() {
+        DataConversionException actual = assertThrows(DataConversionException.class, () ->
+                reader.read(DUPLICATE_STALL_FILE));
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STALL, actual.getCause().getMessage());
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> reader.read(NOT_JSON_FILE));
+    }
+}